@@ -0,0 +1,48 @@
+package com.ll.sbbdoc20250109.domain.question.dto;
+
+import com.ll.sbbdoc20250109.domain.base.BaseEntity;
+import com.ll.sbbdoc20250109.domain.question.Question;
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuestionDtoMappingBenchmark {
+
+    private Question question;
+
+    @Setup
+    public void setup() {
+        SiteUser author = new SiteUser(3L, "user1");
+        author.setNickname("유저1");
+
+        question = Question.builder()
+                .author(author)
+                .subject("축구 하실 분?")
+                .content("14시 까지 22명을 모아야 합니다.")
+                .published(true)
+                .listed(true)
+                .build();
+
+        // id 의 setter 는 protected 이므로 리플렉션으로 채운다.
+        Field idField = ReflectionUtils.findField(BaseEntity.class, "id");
+        ReflectionUtils.makeAccessible(idField);
+        ReflectionUtils.setField(idField, question, 1L);
+    }
+
+    @Benchmark
+    public QuestionListDto toListDto() {
+        return new QuestionListDto(question);
+    }
+
+    @Benchmark
+    public QuestionDetailDto toDetailDto() {
+        return new QuestionDetailDto(question);
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// custom.sqlStats.enabled 의 비용: H2 메모리 DB 에 대한 같은 select 를
+// 커넥션 그대로 실행할 때와 StatementTimingDataSource(Statement 는 JDK 프록시, ResultSet 은 RowCountingResultSet)를 거칠 때를 비교한다.
+// 문장 하나당 prepare / set / execute / next * rows / get * 3 * rows / close 를 모두 포함한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatementTimingBenchmark {
+
+    private static final String SELECT_SQL = "select id, subject, author_id from question where id between ? and ?";
+
+    // 글 상세(1건)와 목록 한 페이지(20건)
+    @Param({"1", "20"})
+    private int rows;
+
+    private Connection plainConnection;
+    private Connection timedConnection;
+
+    private StatementTimingDataSource timedDataSource;
+
+    @Setup
+    public void setup() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:statementTimingBenchmark;DB_CLOSE_DELAY=-1", "sa", "");
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table question (id bigint primary key, subject varchar(200), author_id bigint)");
+            statement.execute("insert into question select x, '제목 ' || x, mod(x, 10) from system_range(1, 100)");
+        }
+
+        SqlStatsRegistry sqlStatsRegistry = new SqlStatsRegistry();
+        setField(sqlStatsRegistry, "slowQueryMillis", 100L);
+        setField(sqlStatsRegistry, "maxFingerprints", 500);
+        setField(sqlStatsRegistry, "maxBindLength", 100);
+
+        timedDataSource = new StatementTimingDataSource(dataSource, sqlStatsRegistry);
+
+        plainConnection = dataSource.getConnection();
+        timedConnection = timedDataSource.getConnection();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        plainConnection.close();
+        timedConnection.close();
+
+        try (Connection connection = timedDataSource.getTargetDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table question");
+        }
+    }
+
+    @Benchmark
+    public long plain() throws SQLException {
+        return select(plainConnection);
+    }
+
+    @Benchmark
+    public long statementTiming() throws SQLException {
+        return select(timedConnection);
+    }
+
+    private long select(Connection connection) throws SQLException {
+        long sum = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_SQL)) {
+            statement.setLong(1, 1);
+            statement.setLong(2, rows);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    sum += resultSet.getLong(1);
+                    sum += resultSet.getString(2).length();
+                    sum += resultSet.getLong(3);
+                }
+            }
+        }
+
+        return sum;
+    }
+
+    // SqlStatsRegistry 는 @Value 필드 주입을 쓰므로 스프링 없이 값을 넣는다.
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.ll.sbbdoc20250109.global.rsData;
+
+import com.ll.sbbdoc20250109.standard.util.Ut;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Ut.json 의 ObjectMapper 에는 JavaTimeModule 이 없으므로 날짜가 없는 응답으로 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RsDataBenchmark {
+
+    private RsData<Void> errorRsData;
+    private RsData<Map<String, Object>> dataRsData;
+
+    @Setup
+    public void setup() {
+        errorRsData = new RsData<>("401-1", "사용자의 인증정보가 올바르지 않습니다.");
+        dataRsData = new RsData<>(
+                "200-1",
+                "1번 글이 수정되었습니다.",
+                Map.of("id", 1L, "subject", "축구 하실 분?", "published", true, "listed", true)
+        );
+    }
+
+    @Benchmark
+    public String jsonToStringWithoutData() {
+        return Ut.json.toString(errorRsData);
+    }
+
+    @Benchmark
+    public String jsonToStringWithData() {
+        return Ut.json.toString(dataRsData);
+    }
+
+    @Benchmark
+    public int getStatusCode() {
+        return dataRsData.getStatusCode();
+    }
+
+}
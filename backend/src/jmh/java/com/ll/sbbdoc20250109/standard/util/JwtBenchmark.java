@@ -0,0 +1,51 @@
+package com.ll.sbbdoc20250109.standard.util;
+
+import io.jsonwebtoken.JwtParser;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 매번 키 / 파서를 만드는 경로와 미리 만들어 둔 키 / 파서를 쓰는 경로(AuthTokenService)를 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final Map<String, Object> body = Map.of("id", 3L, "username", "user1");
+
+    private SecretKey secretKey;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setup() {
+        secretKey = Ut.jwt.secretKey(SECRET);
+        parser = Ut.jwt.parser(secretKey);
+        token = Ut.jwt.toString(secretKey, 60 * 20, body);
+    }
+
+    @Benchmark
+    public String toStringWithSecret() {
+        return Ut.jwt.toString(SECRET, 60 * 20, body);
+    }
+
+    @Benchmark
+    public String toStringWithSecretKey() {
+        return Ut.jwt.toString(secretKey, 60 * 20, body);
+    }
+
+    @Benchmark
+    public Map<String, Object> payloadWithSecret() {
+        return Ut.jwt.payload(SECRET, token);
+    }
+
+    @Benchmark
+    public Map<String, Object> payloadWithParser() {
+        return Ut.jwt.claims(parser, token);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.ll.sbbdoc20250109.domain.admin;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/v1/admin/export")
+@RequiredArgsConstructor
+@Tag(name = "AdminExportController", description = "API 관리자 데이터 내보내기 컨트롤러")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminExportController {
+
+    private final AdminExportService adminExportService;
+    private final HttpServletResponse response;
+
+    @Operation(summary = "글 전체 내보내기 (NDJSON / CSV)")
+    @GetMapping("/questions")
+    @Transactional(readOnly = true)
+    public void exportQuestions(@RequestParam(defaultValue = "ndjson") ExportFormat format) throws IOException {
+        adminExportService.exportQuestions(format, openWriter(format, "questions"));
+    }
+
+    @Operation(summary = "댓글 전체 내보내기 (NDJSON / CSV)")
+    @GetMapping("/answers")
+    @Transactional(readOnly = true)
+    public void exportAnswers(@RequestParam(defaultValue = "ndjson") ExportFormat format) throws IOException {
+        adminExportService.exportAnswers(format, openWriter(format, "answers"));
+    }
+
+    private Writer openWriter(ExportFormat format, String name) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setHeader("Content-Disposition", "attachment; filename=\"%s.%s\"".formatted(name, format.name()));
+
+        return new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+}
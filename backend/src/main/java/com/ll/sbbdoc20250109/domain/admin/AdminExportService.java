@@ -0,0 +1,182 @@
+package com.ll.sbbdoc20250109.domain.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.sbbdoc20250109.domain.answer.Answer;
+import com.ll.sbbdoc20250109.domain.answer.AnswerRepository;
+import com.ll.sbbdoc20250109.domain.question.Question;
+import com.ll.sbbdoc20250109.domain.question.QuestionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// 전체 글 / 댓글을 한 행씩 스트리밍으로 내보낸다.
+// 일정 건수마다 영속성 컨텍스트를 비우므로 데이터 양과 관계없이 메모리 사용량이 일정하다.
+@Service
+@RequiredArgsConstructor
+public class AdminExportService {
+
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private static final List<String> QUESTION_COLUMNS = List.of(
+            "id", "createDate", "modifyDate", "authorId", "author", "subject", "content", "published", "listed", "answerCount"
+    );
+
+    private static final List<String> ANSWER_COLUMNS = List.of(
+            "id", "createDate", "modifyDate", "questionId", "authorId", "author", "content"
+    );
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    record QuestionExportRow(
+            long id,
+            LocalDateTime createDate,
+            LocalDateTime modifyDate,
+            Long authorId,
+            String author,
+            String subject,
+            String content,
+            boolean published,
+            boolean listed,
+            long answerCount
+    ) {
+        static QuestionExportRow of(Question question) {
+            return new QuestionExportRow(
+                    question.getId(),
+                    question.getCreateDate(),
+                    question.getModifyDate(),
+                    question.getAuthor() == null ? null : question.getAuthor().getId(),
+                    question.getAuthor() == null ? null : question.getAuthor().getNickname(),
+                    question.getSubject(),
+                    question.getContent(),
+                    question.isPublished(),
+                    question.isListed(),
+                    question.getAnswerCount()
+            );
+        }
+
+        List<Object> values() {
+            return List.of(
+                    id, nullToEmpty(createDate), nullToEmpty(modifyDate), nullToEmpty(authorId), nullToEmpty(author),
+                    nullToEmpty(subject), nullToEmpty(content), published, listed, answerCount
+            );
+        }
+    }
+
+    record AnswerExportRow(
+            long id,
+            LocalDateTime createDate,
+            LocalDateTime modifyDate,
+            long questionId,
+            Long authorId,
+            String author,
+            String content
+    ) {
+        static AnswerExportRow of(Answer answer) {
+            return new AnswerExportRow(
+                    answer.getId(),
+                    answer.getCreateDate(),
+                    answer.getModifyDate(),
+                    answer.getQuestion().getId(),
+                    answer.getUser() == null ? null : answer.getUser().getId(),
+                    answer.getUser() == null ? null : answer.getUser().getNickname(),
+                    answer.getContent()
+            );
+        }
+
+        List<Object> values() {
+            return List.of(
+                    id, nullToEmpty(createDate), nullToEmpty(modifyDate), questionId, nullToEmpty(authorId),
+                    nullToEmpty(author), nullToEmpty(content)
+            );
+        }
+    }
+
+    public void exportQuestions(ExportFormat format, Writer writer) {
+        try (Stream<Question> questions = questionRepository.streamAllWithAuthor()) {
+            export(
+                    questions.map(QuestionExportRow::of),
+                    format,
+                    writer,
+                    QUESTION_COLUMNS,
+                    QuestionExportRow::values
+            );
+        }
+    }
+
+    public void exportAnswers(ExportFormat format, Writer writer) {
+        try (Stream<Answer> answers = answerRepository.streamAllWithUser()) {
+            export(
+                    answers.map(AnswerExportRow::of),
+                    format,
+                    writer,
+                    ANSWER_COLUMNS,
+                    AnswerExportRow::values
+            );
+        }
+    }
+
+    private <T> void export(
+            Stream<T> rows,
+            ExportFormat format,
+            Writer writer,
+            List<String> columns,
+            Function<T, List<Object>> csvValues
+    ) {
+        try {
+            if (format == ExportFormat.csv) writeCsvLine(writer, columns);
+
+            int[] count = {0};
+
+            rows.forEach(row -> {
+                try {
+                    if (format == ExportFormat.csv) writeCsvLine(writer, csvValues.apply(row));
+                    else writer.write(objectMapper.writeValueAsString(row) + "\n");
+
+                    if (++count[0] % CLEAR_INTERVAL == 0) {
+                        entityManager.clear();
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) writer.write(',');
+
+            writer.write(escapeCsv(String.valueOf(values.get(i))));
+        }
+
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static Object nullToEmpty(Object value) {
+        return value == null ? "" : value;
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.ll.sbbdoc20250109.domain.admin;
+
+import com.ll.sbbdoc20250109.global.jpa.QueryBudget;
+import com.ll.sbbdoc20250109.global.rq.Rq;
+import com.ll.sbbdoc20250109.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/v1/admin/import")
+@RequiredArgsConstructor
+@Tag(name = "AdminImportController", description = "API 관리자 데이터 가져오기 컨트롤러")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminImportController {
+
+    private final AdminImportService adminImportService;
+    private final Rq rq;
+
+    // 트랜잭션은 AdminImportService 에서 chunk 단위로 연다.
+    @Operation(summary = "글 / 댓글 일괄 등록 (NDJSON)")
+    @QueryBudget(-1)
+    @PostMapping(value = "/questions", consumes = {"application/x-ndjson", "application/json", "text/plain"})
+    public RsData<AdminImportService.ImportReport> importQuestions(HttpServletRequest request) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+
+        AdminImportService.ImportReport report = adminImportService.importQuestions(reader, rq.getActor());
+
+        return new RsData<>(
+                report.failedCount() == 0 ? "200-1" : "200-2",
+                "%d건 중 %d건이 등록되었습니다.".formatted(
+                        report.importedCount() + report.failedCount(),
+                        report.importedCount()
+                ),
+                report
+        );
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.ll.sbbdoc20250109.domain.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.sbbdoc20250109.domain.answer.AnswerController;
+import com.ll.sbbdoc20250109.domain.question.QuestionController;
+import com.ll.sbbdoc20250109.domain.question.QuestionService;
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import com.ll.sbbdoc20250109.standard.cache.LruCache;
+import com.ll.sbbdoc20250109.standard.util.Ut;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// NDJSON 한 줄 = 글 하나(댓글 포함)
+// 한 줄씩 읽어 검증하고, chunkSize 개씩 하나의 트랜잭션으로 저장한다. (JDBC 배치는 hibernate.jdbc.batch_size 를 따른다.)
+// chunk 저장이 실패하면 그 chunk 만 한 줄씩 다시 저장해 실패한 줄만 보고한다.
+@Service
+@RequiredArgsConstructor
+public class AdminImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final QuestionService questionService;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.bulkImport.chunkSize}")
+    private int chunkSize;
+
+    @Value("${custom.bulkImport.authorCacheSize}")
+    private int authorCacheSize;
+
+    public record AnswerImportLine(String author, String content) {}
+
+    public record QuestionImportLine(
+            String author,
+            String subject,
+            String content,
+            boolean published,
+            boolean listed,
+            List<AnswerImportLine> answers
+    ) {}
+
+    public record ImportError(long line, String message) {}
+
+    public record ImportReport(long totalLines, long importedCount, long failedCount, List<ImportError> errors) {}
+
+    private record PendingQuestion(long line, QuestionImportLine item, SiteUser author, List<QuestionService.AnswerDraft> answers) {}
+
+    private class Progress {
+        private long totalLines;
+        private long importedCount;
+        private long failedCount;
+        private final List<ImportError> errors = new ArrayList<>();
+        // 작성자 수만큼 커지지 않도록 최근에 쓴 작성자만 둔다.
+        private final LruCache<String, Optional<SiteUser>> authors = new LruCache<>(authorCacheSize);
+
+        private void fail(long line, String message) {
+            failedCount++;
+
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new ImportError(line, message));
+        }
+
+        private SiteUser findAuthor(String username, SiteUser defaultAuthor) {
+            if (Ut.str.isBlank(username)) return defaultAuthor;
+
+            Optional<SiteUser> author = authors.get(username);
+
+            if (author == null) {
+                author = userService.findByUsername(username);
+                authors.put(username, author);
+            }
+
+            return author.orElse(null);
+        }
+
+        private ImportReport toReport() {
+            return new ImportReport(totalLines, importedCount, failedCount, errors);
+        }
+    }
+
+    public ImportReport importQuestions(BufferedReader reader, SiteUser defaultAuthor) {
+        Progress progress = new Progress();
+        List<PendingQuestion> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                long lineNumber = ++progress.totalLines;
+
+                if (Ut.str.isBlank(line)) continue;
+
+                PendingQuestion pending = parse(lineNumber, line, defaultAuthor, progress);
+
+                if (pending == null) continue;
+
+                chunk.add(pending);
+
+                if (chunk.size() >= chunkSize) {
+                    save(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!chunk.isEmpty()) save(chunk, progress);
+
+        return progress.toReport();
+    }
+
+    private PendingQuestion parse(long lineNumber, String line, SiteUser defaultAuthor, Progress progress) {
+        QuestionImportLine item;
+
+        try {
+            item = objectMapper.readValue(line, QuestionImportLine.class);
+        } catch (IOException e) {
+            progress.fail(lineNumber, "JSON 형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        String violations = validate(new QuestionController.QuestionCreateReqBody(
+                item.subject(), item.content(), item.published(), item.listed()
+        ));
+
+        if (violations != null) {
+            progress.fail(lineNumber, violations);
+            return null;
+        }
+
+        SiteUser author = progress.findAuthor(item.author(), defaultAuthor);
+
+        if (author == null) {
+            progress.fail(lineNumber, "존재하지 않는 작성자입니다. (%s)".formatted(item.author()));
+            return null;
+        }
+
+        List<AnswerImportLine> answerLines = item.answers() == null ? List.of() : item.answers();
+        List<QuestionService.AnswerDraft> answers = new ArrayList<>(answerLines.size());
+
+        for (int i = 0; i < answerLines.size(); i++) {
+            AnswerImportLine answerLine = answerLines.get(i);
+
+            String answerViolations = validate(new AnswerController.AnswerCreateReqbody(answerLine.content()));
+
+            if (answerViolations != null) {
+                progress.fail(lineNumber, "answers[%d] %s".formatted(i, answerViolations));
+                return null;
+            }
+
+            SiteUser answerAuthor = progress.findAuthor(answerLine.author(), defaultAuthor);
+
+            if (answerAuthor == null) {
+                progress.fail(lineNumber, "answers[%d] 존재하지 않는 작성자입니다. (%s)".formatted(i, answerLine.author()));
+                return null;
+            }
+
+            answers.add(new QuestionService.AnswerDraft(answerAuthor, answerLine.content()));
+        }
+
+        return new PendingQuestion(lineNumber, item, author, answers);
+    }
+
+    // GlobalExceptionHandler 의 MethodArgumentNotValidException 응답과 같은 형식
+    private String validate(Object reqBody) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(reqBody);
+
+        if (violations.isEmpty()) return null;
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath()
+                        + "-" + violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName()
+                        + "-" + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("\n"));
+    }
+
+    private void save(List<PendingQuestion> chunk, Progress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::write));
+
+            progress.importedCount += chunk.size();
+        } catch (RuntimeException e) {
+            chunk.forEach(pending -> saveOne(pending, progress));
+        }
+    }
+
+    private void saveOne(PendingQuestion pending, Progress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(pending));
+
+            progress.importedCount++;
+        } catch (RuntimeException e) {
+            progress.fail(pending.line(), "저장에 실패했습니다. (%s)".formatted(e.getMessage()));
+        }
+    }
+
+    private void write(PendingQuestion pending) {
+        questionService.write(
+                pending.author(),
+                pending.item().subject(),
+                pending.item().content(),
+                pending.item().published(),
+                pending.item().listed(),
+                pending.answers()
+        );
+    }
+
+}
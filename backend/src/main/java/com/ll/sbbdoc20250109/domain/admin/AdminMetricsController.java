@@ -0,0 +1,147 @@
+package com.ll.sbbdoc20250109.domain.admin;
+
+import com.ll.sbbdoc20250109.domain.question.QuestionDetailCache;
+import com.ll.sbbdoc20250109.domain.user.AuthTokenService;
+import com.ll.sbbdoc20250109.domain.user.SiteUserCache;
+import com.ll.sbbdoc20250109.global.concurrency.ConcurrencyLimitFilter;
+import com.ll.sbbdoc20250109.global.concurrency.VirtualThreadPinningMonitor;
+import com.ll.sbbdoc20250109.global.globalExceptionHandler.ErrorLogAggregator;
+import com.ll.sbbdoc20250109.global.jpa.SqlStatsRegistry;
+import com.ll.sbbdoc20250109.global.metrics.EndpointLatencyRegistry;
+import com.ll.sbbdoc20250109.global.rsData.RsData;
+import com.ll.sbbdoc20250109.standard.cache.LruCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/metrics")
+@RequiredArgsConstructor
+@Tag(name = "AdminMetricsController", description = "API 관리자 지표 컨트롤러")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminMetricsController {
+
+    private final AuthTokenService authTokenService;
+    private final SiteUserCache siteUserCache;
+    private final QuestionDetailCache questionDetailCache;
+    private final EndpointLatencyRegistry endpointLatencyRegistry;
+    private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final ErrorLogAggregator errorLogAggregator;
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    @Operation(summary = "액세스 토큰 검증 캐시 통계")
+    @GetMapping("/auth-token-cache")
+    public LruCache.Stats authTokenCache() {
+        return authTokenService.getVerifiedTokenCacheStats();
+    }
+
+    @Operation(summary = "작성자 정보 캐시 통계")
+    @GetMapping("/site-user-cache")
+    public LruCache.Stats siteUserCache() {
+        return siteUserCache.getStats();
+    }
+
+    @Operation(summary = "글 상세 응답 캐시 통계")
+    @GetMapping("/question-detail-cache")
+    public LruCache.Stats questionDetailCache() {
+        return questionDetailCache.getStats();
+    }
+
+    @Operation(summary = "엔드포인트별 응답 시간 / 처리량 / 에러율")
+    @GetMapping("/latency")
+    public EndpointLatencyRegistry.Report latency() {
+        return endpointLatencyRegistry.report();
+    }
+
+    @Operation(summary = "엔드포인트별 응답 시간 (Prometheus 형식)")
+    @GetMapping(value = "/latency/prometheus", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String latencyPrometheus() {
+        return endpointLatencyRegistry.prometheus();
+    }
+
+    @Operation(summary = "엔드포인트별 응답 시간 초기화")
+    @DeleteMapping("/latency")
+    public RsData<Void> resetLatency() {
+        endpointLatencyRegistry.reset();
+
+        return new RsData<>("200-1", "응답 시간 통계를 초기화했습니다.");
+    }
+
+    @Operation(summary = "resultCode 별 에러 응답 수")
+    @GetMapping("/errors")
+    public ErrorLogAggregator.Report errors() {
+        return errorLogAggregator.report();
+    }
+
+    @Operation(summary = "resultCode 별 에러 응답 수 (Prometheus 형식)")
+    @GetMapping(value = "/errors/prometheus", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String errorsPrometheus() {
+        return errorLogAggregator.prometheus();
+    }
+
+    @Operation(summary = "에러 응답 수 초기화")
+    @DeleteMapping("/errors")
+    public RsData<Void> resetErrors() {
+        errorLogAggregator.reset();
+
+        return new RsData<>("200-1", "에러 통계를 초기화했습니다.");
+    }
+
+    @Operation(summary = "SQL 지문별 실행 횟수 / 시간 / 행 수 상위 목록")
+    @GetMapping("/sql")
+    public SqlStatsRegistry.Report sql(
+            @RequestParam(defaultValue = "total") SqlStatsRegistry.Sort sort,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return sqlStatsRegistry.report(sort, limit);
+    }
+
+    @Operation(summary = "SQL 통계 초기화")
+    @DeleteMapping("/sql")
+    public RsData<Void> resetSql() {
+        sqlStatsRegistry.reset();
+
+        return new RsData<>("200-1", "SQL 통계를 초기화했습니다.");
+    }
+
+
+    @Operation(summary = "가상 스레드 pinning 스택 (JFR jdk.VirtualThreadPinned)")
+    @GetMapping("/virtual-thread-pinning")
+    public VirtualThreadPinningMonitor.Report virtualThreadPinning() {
+        return virtualThreadPinningMonitor.report();
+    }
+
+    @Operation(summary = "가상 스레드 pinning 통계 초기화")
+    @DeleteMapping("/virtual-thread-pinning")
+    public RsData<Void> resetVirtualThreadPinning() {
+        virtualThreadPinningMonitor.reset();
+
+        return new RsData<>("200-1", "pinning 통계를 초기화했습니다.");
+    }
+
+    record ConcurrencyResBody(
+            boolean virtualThreads,
+            int maxConcurrentRequests,
+            int inFlightRequests,
+            int queuedRequests
+    ) {}
+
+    @Operation(summary = "동시 요청 한도 / 처리 중인 요청 수")
+    @GetMapping("/concurrency")
+    public ConcurrencyResBody concurrency() {
+        return new ConcurrencyResBody(
+                Thread.currentThread().isVirtual(),
+                concurrencyLimitFilter.getMaxConcurrentRequests(),
+                concurrencyLimitFilter.getInFlightRequests(),
+                concurrencyLimitFilter.getQueuedRequests()
+        );
+    }
+
+}
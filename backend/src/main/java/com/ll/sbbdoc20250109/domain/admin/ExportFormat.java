@@ -0,0 +1,15 @@
+package com.ll.sbbdoc20250109.domain.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum ExportFormat {
+
+    ndjson("application/x-ndjson; charset=utf-8"),
+    csv("text/csv; charset=utf-8");
+
+    private final String contentType;
+
+}
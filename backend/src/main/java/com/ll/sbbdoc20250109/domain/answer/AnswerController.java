@@ -3,9 +3,12 @@ package com.ll.sbbdoc20250109.domain.answer;
 import com.ll.sbbdoc20250109.domain.question.Question;
 import com.ll.sbbdoc20250109.domain.question.QuestionService;
 import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.UserService;
 import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
+import com.ll.sbbdoc20250109.global.jpa.QueryBudget;
 import com.ll.sbbdoc20250109.global.rq.Rq;
 import com.ll.sbbdoc20250109.global.rsData.RsData;
+import com.ll.sbbdoc20250109.standard.page.CursorPageDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,30 +30,68 @@ import java.util.List;
 public class AnswerController {
 
     private final QuestionService questionService;
+    private final AnswerService answerService;
+    private final UserService userService;
     private final Rq rq;
 
     @Operation(summary = "댓글 조회")
+    @QueryBudget(4)
     @GetMapping
     @Transactional(readOnly = true)
-    public List<AnswerDto> getAnswers(@PathVariable Long question_id) {
-        Question question = questionService.findById(question_id).orElseThrow(
-                () -> new ServiceException("404-1", "%d번 글이 존재하지 않습니다.".formatted(question_id))
-        );
+    public List<AnswerDto> getAnswers(@PathVariable Long question_id, WebRequest webRequest) {
+        boolean notModified = questionService.findVersionById(question_id)
+                .map(version -> webRequest.checkNotModified(version.etag(), version.lastModified()))
+                .orElse(false);
+
+        if (notModified) return null;
 
-        return question
-                .getAnswerList()
+        checkQuestionExists(question_id);
+
+        return answerService.findByQuestionId(question_id)
                 .stream()
                 .map(AnswerDto::new)
                 .toList();
     }
 
-    record AnswerCreateReqbody(
+    @Operation(summary = "댓글 조회 (커서)")
+    @QueryBudget(3)
+    @GetMapping(params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPageDto<AnswerDto> getAnswerCursorList(
+            @PathVariable Long question_id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam int limit
+    ) {
+        checkQuestionExists(question_id);
+
+        return answerService.findByQuestionIdCursor(question_id, after, before, limit)
+                .map(AnswerDto::new);
+    }
+
+    // 댓글이 있으면 글도 있으므로, 글 존재 여부는 댓글이 없을 때만 확인한다.
+    private Answer findAnswer(long questionId, long id) {
+        return answerService.findByQuestionIdAndId(questionId, id).orElseThrow(() -> {
+            checkQuestionExists(questionId);
+
+            return new ServiceException("404-2", "%d번 댓글이 존재하지 않습니다.".formatted(id));
+        });
+    }
+
+    private void checkQuestionExists(long questionId) {
+        if (!questionService.existsById(questionId))
+            throw new ServiceException("404-1", "%d번 글이 존재하지 않습니다.".formatted(questionId));
+    }
+
+    // 일괄 등록(AdminImportService)에서도 같은 검증 규칙을 쓰기 위해 public 으로 둔다.
+    public record AnswerCreateReqbody(
             @NotBlank
             @Length(min = 1, max = 100)
             String content
     ) {}
 
     @Operation(summary = "댓글 생성")
+    @QueryBudget(7)
     @PostMapping
     @Transactional
     public RsData<AnswerDto> createAnswer(@PathVariable Long question_id,
@@ -60,17 +102,17 @@ public class AnswerController {
                 () -> new ServiceException("404-1", "%d번 글이 존재하지 않습니다.".formatted(question_id))
         );
 
-        Answer answer = question.createAnswer(
+        Answer answer = answerService.write(
+                question,
                 user,
                 reqbody.content
         );
 
-        questionService.flush();
-
         return new RsData<>(
                 "201-1",
                 "%d번 댓글이 작성되었습니다.".formatted(answer.getId()),
-                new AnswerDto(answer)
+                // actor 는 토큰에서 만든 SiteUser 라 닉네임이 없으므로 캐시에서 가져온다.
+                new AnswerDto(answer, userService.findNicknameById(user.getId()))
         );
     }
 
@@ -81,6 +123,7 @@ public class AnswerController {
     ) {}
 
     @Operation(summary = "댓글 수정")
+    @QueryBudget(5)
     @PutMapping("/{id}")
     @Transactional
     public RsData<AnswerDto> modifyAnswer(@PathVariable Long question_id,
@@ -88,13 +131,7 @@ public class AnswerController {
                                           @Valid @RequestBody AnswerModifyReqbody reqbody) {
         SiteUser user = rq.getActor();
 
-        Question question = questionService.findById(question_id).orElseThrow(
-                () -> new ServiceException("404-1", "%d번 글이 존재하지 않습니다.".formatted(question_id))
-        );
-
-        Answer answer = question.getAnswerById(id).orElseThrow(
-                () -> new ServiceException("404-2", "%d번 댓글이 존재하지 않습니다.".formatted(id))
-        );
+        Answer answer = findAnswer(question_id, id);
 
         answer.checkActorCanModify(user);
 
@@ -108,22 +145,17 @@ public class AnswerController {
     }
 
     @Operation(summary = "댓글 삭제")
+    @QueryBudget(5)
     @DeleteMapping("/{id}")
     @Transactional
     public RsData<Void> deleteAnswer(@PathVariable Long question_id, @PathVariable Long id) {
         SiteUser user = rq.getActor();
 
-        Question question = questionService.findById(question_id).orElseThrow(
-                () -> new ServiceException("404-1", "%d번 글이 존재하지 않습니다.".formatted(question_id))
-        );
-
-        Answer answer = question.getAnswerById(id).orElseThrow(
-                () -> new ServiceException("404-2", "%d번 댓글이 존재하지 않습니다.".formatted(id))
-        );
+        Answer answer = findAnswer(question_id, id);
 
         answer.checkActorCanDelete(user);
 
-        question.deleteAnswer(answer);
+        answerService.delete(answer);
 
         return new RsData<>(
                 "200-1",
@@ -16,12 +16,17 @@ public class AnswerDto {
     private String content;
 
     public AnswerDto(Answer answer) {
+        this(answer, answer.getUser().getNickname());
+    }
+
+    // 작성자를 로딩하지 않고 캐시된 닉네임을 쓰는 경우 (UserService.findNicknameById)
+    public AnswerDto(Answer answer, String authorName) {
         this.id = answer.getId();
         this.createDate = answer.getCreateDate();
         this.modifyDate = answer.getModifyDate();
         this.questionId = answer.getQuestion().getId();
         this.authorId = answer.getUser().getId();
-        this.authorName = answer.getUser().getNickname();
+        this.authorName = authorName;
         this.content = answer.getContent();
     }
 
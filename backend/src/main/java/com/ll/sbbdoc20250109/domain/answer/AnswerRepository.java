@@ -0,0 +1,39 @@
+package com.ll.sbbdoc20250109.domain.answer;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface AnswerRepository extends JpaRepository<Answer, Long> {
+
+    // 작성자를 같은 select 에서 함께 가져온다. (Question.answerList 를 초기화하지 않는다.)
+    @Query("select a from Answer a join fetch a.user where a.question.id = :questionId order by a.id desc")
+    List<Answer> findByQuestionIdOrderByIdDesc(long questionId);
+
+    @Query("select a from Answer a join fetch a.user where a.question.id = :questionId order by a.id desc")
+    List<Answer> findByQuestionIdOrderByIdDesc(long questionId, Pageable pageable);
+
+    @Query("select a from Answer a join fetch a.user where a.question.id = :questionId and a.id < :id order by a.id desc")
+    List<Answer> findByQuestionIdAndIdLessThan(long questionId, long id, Pageable pageable);
+
+    @Query("select a from Answer a join fetch a.user where a.question.id = :questionId and a.id > :id order by a.id asc")
+    List<Answer> findByQuestionIdAndIdGreaterThan(long questionId, long id, Pageable pageable);
+
+    @Query("select a from Answer a join fetch a.user where a.question.id = :questionId and a.id = :id")
+    Optional<Answer> findByQuestionIdAndId(long questionId, long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Answer a left join fetch a.user order by a.id asc")
+    Stream<Answer> streamAllWithUser();
+
+}
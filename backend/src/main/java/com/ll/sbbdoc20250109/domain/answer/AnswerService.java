@@ -0,0 +1,65 @@
+package com.ll.sbbdoc20250109.domain.answer;
+
+import com.ll.sbbdoc20250109.domain.question.Question;
+import com.ll.sbbdoc20250109.domain.question.QuestionService;
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.standard.page.CursorPageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class AnswerService {
+
+    private static final int MAX_CURSOR_LIMIT = 100;
+
+    private final AnswerRepository answerRepository;
+    private final QuestionService questionService;
+
+    public List<Answer> findByQuestionId(long questionId) {
+        return answerRepository.findByQuestionIdOrderByIdDesc(questionId);
+    }
+
+    public CursorPageDto<Answer> findByQuestionIdCursor(long questionId, String after, String before, int limit) {
+        return CursorPageDto.fetch(
+                after,
+                before,
+                Math.min(limit, MAX_CURSOR_LIMIT),
+                Answer::getId,
+                p -> answerRepository.findByQuestionIdOrderByIdDesc(questionId, p),
+                (id, p) -> answerRepository.findByQuestionIdAndIdLessThan(questionId, id, p),
+                (id, p) -> answerRepository.findByQuestionIdAndIdGreaterThan(questionId, id, p)
+        );
+    }
+
+    public Optional<Answer> findByQuestionIdAndId(long questionId, long id) {
+        return answerRepository.findByQuestionIdAndId(questionId, id);
+    }
+
+    // Question.answerList 를 거치지 않고 바로 저장 / 삭제한다.
+    public Answer write(Question question, SiteUser user, String content) {
+        Answer answer = Answer.builder()
+                .question(question)
+                .user(user)
+                .content(content)
+                .build();
+
+        answerRepository.save(answer);
+
+        questionService.increaseAnswerCount(question.getId(), 1);
+
+        return answer;
+    }
+
+    public void delete(Answer answer) {
+        long questionId = answer.getQuestion().getId();
+
+        answerRepository.delete(answer);
+
+        questionService.increaseAnswerCount(questionId, -1);
+    }
+
+}
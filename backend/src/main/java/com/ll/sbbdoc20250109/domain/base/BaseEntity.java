@@ -7,8 +7,9 @@ import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
-
-import static jakarta.persistence.GenerationType.IDENTITY;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Getter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -16,7 +17,15 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 public class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(generator = PooledSequenceGenerator.NAME)
+    @GenericGenerator(
+            name = PooledSequenceGenerator.NAME,
+            type = PooledSequenceGenerator.class,
+            parameters = {
+                    @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = PooledSequenceGenerator.SEQUENCE_NAME),
+                    @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+            }
+    )
     @Setter(AccessLevel.PROTECTED)
     @EqualsAndHashCode.Include
     private Long id;
@@ -1,5 +1,6 @@
 package com.ll.sbbdoc20250109.domain.base;
 
+import com.ll.sbbdoc20250109.domain.answer.AnswerService;
 import com.ll.sbbdoc20250109.domain.question.Question;
 import com.ll.sbbdoc20250109.domain.question.QuestionService;
 import com.ll.sbbdoc20250109.domain.user.SiteUser;
@@ -8,6 +9,7 @@ import com.ll.sbbdoc20250109.global.app.AppConfig;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,11 +21,16 @@ public class BaseInitData {
 
     private final QuestionService questionService;
     private final UserService userService;
+    private final AnswerService answerService;
 
     @Autowired
     @Lazy
     private BaseInitData self;
 
+    // 부하 테스트(loadtest 프로필)에서는 샘플 글 대신 대량의 합성 데이터를 만든다.
+    @Value("${custom.initData.sampleQuestions}")
+    private boolean sampleQuestions;
+
     @Bean
     public ApplicationRunner baseInitDataApplicationRunner() {
         return args -> {
@@ -60,6 +67,8 @@ public class BaseInitData {
 
     @Transactional
     public void work2() {
+        if (!sampleQuestions) return;
+
         if (questionService.count() > 0) return;
 
         SiteUser memberUser1 = userService.findByUsername("user1").get();
@@ -74,8 +83,8 @@ public class BaseInitData {
                 true,
                 true
         );
-        post1.createAnswer(memberUser2, "저요!");
-        post1.createAnswer(memberUser3, "저도 할래요.");
+        answerService.write(post1, memberUser2, "저요!");
+        answerService.write(post1, memberUser3, "저도 할래요.");
 
         Question post2 = questionService.write(
                 memberUser1,
@@ -84,7 +93,7 @@ public class BaseInitData {
                 true,
                 true
         );
-        post2.createAnswer(memberUser4, "저요!, 저 배구 잘합니다.");
+        answerService.write(post2, memberUser4, "저요!, 저 배구 잘합니다.");
 
         Question post3 = questionService.write(
                 memberUser2,
@@ -0,0 +1,38 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Question.answerCount 를 실제 댓글 수로 다시 계산한다.
+// 한 번에 잠그는 행이 많지 않도록 id 구간별로 나눠 각각의 트랜잭션에서 실행한다.
+// answer_count 컬럼이 새로 추가된 기존 DB(db_dev 등)는 모든 글이 0 이므로, 웹 서버가 요청을 받기 전에 한 번 실행한다.
+@Component
+@RequiredArgsConstructor
+public class AnswerCountRepairJob implements InitializingBean {
+
+    private final QuestionService questionService;
+
+    @Value("${custom.answerCountRepair.batchSize}")
+    private int batchSize;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (questionService.hasMissingAnswerCounts()) run();
+    }
+
+    @Scheduled(cron = "${custom.answerCountRepair.cron}")
+    public void run() {
+        Long minId = questionService.findMinId();
+        Long maxId = questionService.findMaxId();
+
+        if (minId == null || maxId == null) return;
+
+        for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+            questionService.repairAnswerCounts(fromId, fromId + batchSize - 1);
+        }
+    }
+
+}
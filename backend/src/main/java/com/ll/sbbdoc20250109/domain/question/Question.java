@@ -6,6 +6,7 @@ import com.ll.sbbdoc20250109.domain.user.SiteUser;
 import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +35,11 @@ public class Question extends BaseTime {
     // 검색 가능 / 불가능
     private boolean listed;
 
+    // 댓글 수 - 엔티티 flush 로 덮어쓰지 않도록 UPDATE 쿼리로만 증감한다.
+    @ColumnDefault("0")
+    @Column(updatable = false)
+    private long answerCount;
+
     @OneToMany(mappedBy = "question", cascade = {CascadeType.PERSIST,CascadeType.REMOVE}, orphanRemoval = true)
     @Builder.Default
     private List<Answer> answerList = new ArrayList<>();
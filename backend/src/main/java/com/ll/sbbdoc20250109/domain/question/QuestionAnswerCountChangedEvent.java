@@ -0,0 +1,5 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+// 댓글 작성 / 삭제로 글의 answerCount 가 바뀌었을 때 발행되는 이벤트
+public record QuestionAnswerCountChangedEvent(long questionId) {
+}
@@ -0,0 +1,47 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+// 글 작성 / 수정 / 삭제 시 발행되는 이벤트
+// before 가 null 이면 작성, after 가 null 이면 삭제
+public record QuestionChangedEvent(
+        long questionId,
+        Snapshot before,
+        Snapshot after
+) {
+
+    public record Snapshot(
+            String subject,
+            String content,
+            boolean published,
+            boolean listed
+    ) {
+        public static Snapshot of(Question question) {
+            return new Snapshot(
+                    question.getSubject(),
+                    question.getContent(),
+                    question.isPublished(),
+                    question.isListed()
+            );
+        }
+    }
+
+    public static QuestionChangedEvent created(Question question) {
+        return new QuestionChangedEvent(question.getId(), null, Snapshot.of(question));
+    }
+
+    public static QuestionChangedEvent modified(long questionId, Snapshot before, Snapshot after) {
+        return new QuestionChangedEvent(questionId, before, after);
+    }
+
+    public static QuestionChangedEvent deleted(Question question) {
+        return new QuestionChangedEvent(question.getId(), Snapshot.of(question), null);
+    }
+
+    public boolean isCreated() {
+        return before == null;
+    }
+
+    public boolean isDeleted() {
+        return after == null;
+    }
+
+}
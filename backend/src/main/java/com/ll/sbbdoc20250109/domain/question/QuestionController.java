@@ -4,12 +4,18 @@ import com.ll.sbbdoc20250109.domain.question.dto.QuestionDetailDto;
 import com.ll.sbbdoc20250109.domain.question.dto.QuestionListDto;
 import com.ll.sbbdoc20250109.domain.user.SiteUser;
 import com.ll.sbbdoc20250109.domain.user.UserService;
+import com.ll.sbbdoc20250109.global.jpa.QueryBudget;
 import com.ll.sbbdoc20250109.global.rq.Rq;
 import com.ll.sbbdoc20250109.global.rsData.RsData;
+import com.ll.sbbdoc20250109.global.webMvc.PreSerializedJson;
+import com.ll.sbbdoc20250109.standard.page.CursorPageDto;
 import com.ll.sbbdoc20250109.standard.page.PageDto;
 import com.ll.sbbdoc20250109.standard.serach.SearchKeywordTypeV1;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,6 +26,7 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.Length;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/question_list")
@@ -30,39 +37,71 @@ public class QuestionController {
 
     private final QuestionService questionService;
     private final UserService userService;
+    private final QuestionStatistics questionStatistics;
+    private final QuestionListCache questionListCache;
+    private final QuestionDetailCache questionDetailCache;
     private final Rq rq;
 
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 QuestionService 에서 시작한다.
     @Operation(summary = "글 목록 출력")
+    @QueryBudget(3)
     @GetMapping
-    @Transactional(readOnly = true)
     public PageDto<QuestionListDto> getList(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int pageSize,
             @RequestParam(defaultValue = "subject") SearchKeywordTypeV1 searchKeywordType,
             @RequestParam(defaultValue = "") String searchKeyword
     ) {
-        return new PageDto<>(
-                questionService.findByListedPaged(true, searchKeywordType, searchKeyword, page, pageSize)
-                        .map(QuestionListDto::new)
+        return questionListCache.get(
+                new QuestionListCache.Key(page, pageSize, searchKeywordType, searchKeyword),
+                () -> new PageDto<>(
+                        questionService.findByListedPaged(true, searchKeywordType, searchKeyword, page, pageSize)
+                )
         );
     }
 
+    @Operation(summary = "글 목록 출력 (커서)")
+    @QueryBudget(2)
+    @GetMapping(params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPageDto<QuestionListDto> getCursorList(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam int limit
+    ) {
+        return questionService.findByListedCursor(true, after, before, limit);
+    }
+
+    // 본문은 QuestionDetailCache 에 직렬화된 바이트로 보관하고 PreSerializedJsonHttpMessageConverter 가 그대로 내보낸다.
     @Operation(summary = "글 상세보기")
+    @ApiResponse(
+            responseCode = "200",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = QuestionDetailDto.class))
+    )
+    @QueryBudget(4)
     @GetMapping("/{id}")
     @Transactional(readOnly = true)
-    public QuestionDetailDto getDetail(@PathVariable Long id) {
-        Question question = questionService.findById(id).get();
+    public PreSerializedJson getDetail(@PathVariable Long id, WebRequest webRequest) {
+        QuestionVersion version = questionService.findVersionById(id).get();
+
+        // 공개글만 버전 조회 한 번으로 304 응답을 결정한다. (비공개글은 권한 확인이 먼저다.)
+        if (version.published() && webRequest.checkNotModified(version.etag(), version.lastModified())) return null;
+
+        if (!version.published()) {
+            Question question = questionService.findById(id).get();
 
-        if (!question.isPublished()) {
             SiteUser user = rq.getActor();
 
             question.checkActorCanRead(user);
+
+            return questionDetailCache.get(version, () -> question);
         }
 
-        return new QuestionDetailDto(question);
+        return questionDetailCache.get(version, () -> questionService.findById(id).get());
     }
 
-    record QuestionCreateReqBody (
+    // 일괄 등록(AdminImportService)에서도 같은 검증 규칙을 쓰기 위해 public 으로 둔다.
+    public record QuestionCreateReqBody (
             @NotBlank
             @Length(min = 3)
             String subject,
@@ -74,6 +113,7 @@ public class QuestionController {
     ) {}
 
     @Operation(summary = "글 작성")
+    @QueryBudget(6)
     @PostMapping
     @Transactional
     public RsData<QuestionDetailDto> createQuestion(
@@ -107,6 +147,7 @@ public class QuestionController {
     ) {}
 
     @Operation(summary = "글 수정")
+    @QueryBudget(5)
     @PutMapping("/{id}")
     @Transactional
     public RsData<QuestionDetailDto> modifyQuestion(@PathVariable Long id,
@@ -124,11 +165,12 @@ public class QuestionController {
         return new RsData<>(
                 "200-1",
                 "%d번 글이 수정되었습니다.".formatted(id),
-                new QuestionDetailDto(question)
+                new QuestionDetailDto(question, userService.findNicknameById(question.getAuthor().getId()))
         );
     }
 
     @Operation(summary = "글 삭제")
+    @QueryBudget(6)
     @DeleteMapping("/{id}")
     @Transactional
     public RsData<Void> deleteQuestion(@PathVariable Long id) {
@@ -153,15 +195,14 @@ public class QuestionController {
     ) {}
 
     @Operation(summary = "통계정보")
+    @QueryBudget(1)
     @GetMapping("/statistics")
     @Transactional(readOnly = true)
     public QuestionStatisticsResBody questionStatistics() {
-        SiteUser user = rq.getActor();
-
         return new QuestionStatisticsResBody(
-                10,
-                10,
-                10
+                questionStatistics.getTotalQuestionCount(),
+                questionStatistics.getTotalPublishedCount(),
+                questionStatistics.getTotalListedCount()
         );
     }
 
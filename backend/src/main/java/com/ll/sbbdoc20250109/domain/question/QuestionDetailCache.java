@@ -0,0 +1,110 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.sbbdoc20250109.domain.question.dto.QuestionDetailDto;
+import com.ll.sbbdoc20250109.domain.user.SiteUserChangedEvent;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import com.ll.sbbdoc20250109.global.webMvc.PreSerializedJson;
+import com.ll.sbbdoc20250109.standard.cache.LruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 글 상세 응답 본문(JSON 바이트) 캐시
+// (글 번호, QuestionVersion.etag()) 를 키로 본문을 보관하므로 버전(글 수정일, 댓글 수정일, 댓글 수)이 같을 때만 재사용된다.
+// 버전이 바뀐 뒤의 옛 본문은 다시 조회되지 않으므로 LRU 로 밀려난다.
+@Component
+@RequiredArgsConstructor
+public class QuestionDetailCache {
+
+    private record Key(long questionId, String version) {}
+
+    private record Entry(long questionId, long authorId, PreSerializedJson body) {}
+
+    private final ObjectMapper objectMapper;
+    private final UserService userService;
+
+    @Value("${custom.questionDetailCache.enabled}")
+    private boolean enabled;
+
+    @Value("${custom.questionDetailCache.maxSize}")
+    private int maxSize;
+
+    @Value("${custom.questionDetailCache.gzipMinBytes}")
+    private int gzipMinBytes;
+
+    private LruCache<Key, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new LruCache<>(maxSize);
+    }
+
+    // loader 는 캐시에 없을 때만 호출된다.
+    public PreSerializedJson get(QuestionVersion version, Supplier<Question> loader) {
+        Key key = new Key(version.id(), version.etag());
+        Entry entry = entries.get(key);
+
+        if (entry != null) return entry.body();
+
+        Question question = loader.get();
+        long authorId = question.getAuthor().getId();
+
+        QuestionDetailDto questionDetailDto = new QuestionDetailDto(question, userService.findNicknameById(authorId));
+        PreSerializedJson body = serialize(questionDetailDto);
+
+        if (enabled) entries.put(key, new Entry(version.id(), authorId, body));
+
+        return body;
+    }
+
+    // 수정 / 삭제된 글의 옛 버전 본문을 LRU 로 밀려나기 전에 비운다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(QuestionChangedEvent event) {
+        if (event.isCreated()) return;
+
+        entries.removeIf(entry -> entry.questionId() == event.questionId());
+    }
+
+    // 작성자 닉네임은 글 버전에 포함되지 않으므로 회원 정보가 바뀌면 해당 작성자의 글을 모두 비운다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(SiteUserChangedEvent event) {
+        entries.removeIf(entry -> entry.authorId() == event.userId());
+    }
+
+    public LruCache.Stats getStats() {
+        return entries.stats();
+    }
+
+    private PreSerializedJson serialize(QuestionDetailDto questionDetailDto) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(questionDetailDto);
+
+            return new PreSerializedJson(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import com.ll.sbbdoc20250109.domain.question.dto.QuestionListDto;
+import com.ll.sbbdoc20250109.domain.user.SiteUserChangedEvent;
+import com.ll.sbbdoc20250109.standard.cache.LruCache;
+import com.ll.sbbdoc20250109.standard.page.PageDto;
+import com.ll.sbbdoc20250109.standard.serach.SearchKeywordTypeV1;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 글 목록 앞쪽 페이지 캐시
+// ttl 이 지나도 stale 기간 안이면 이전 값을 돌려주고 백그라운드 스레드 하나가 갱신한다.
+// 목록 행에는 댓글 수와 작성자 닉네임이 들어 있으므로 글 변경 외에 댓글 수 변경, 회원 정보 변경에도 비운다.
+// JSON 바이트(PreSerializedJson)가 아닌 PageDto 를 보관한다. 응답 타입이 그대로 OpenAPI 스키마에 남아야
+// 프론트엔드 타입(schema.d.ts)이 생성되고, 한 페이지(기본 10건) 직렬화 비용은 캐시가 아끼는 DB 조회에 비해 작다.
+@Component
+public class QuestionListCache {
+
+    public record Key(int page, int pageSize, SearchKeywordTypeV1 searchKeywordType, String searchKeyword) {}
+
+    private static class Entry {
+        private final PageDto<QuestionListDto> value;
+        private final Set<Long> questionIds;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(PageDto<QuestionListDto> value, long loadedAt) {
+            this.value = value;
+            this.questionIds = value.getItems().stream().map(QuestionListDto::getId).collect(Collectors.toUnmodifiableSet());
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    @Value("${custom.questionListCache.maxSize}")
+    private int maxSize;
+
+    @Value("${custom.questionListCache.cachedPages}")
+    private int cachedPages;
+
+    @Value("${custom.questionListCache.ttlSeconds}")
+    private long ttlSeconds;
+
+    @Value("${custom.questionListCache.staleSeconds}")
+    private long staleSeconds;
+
+    private LruCache<Key, Entry> entries;
+
+    // 무효화 이전에 시작된 조회 결과가 캐시에 다시 들어가지 않도록 세대를 기록
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService refresher;
+
+    @PostConstruct
+    void init() {
+        entries = new LruCache<>(maxSize);
+
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("question-list-cache-refresher").factory()
+                : Thread.ofPlatform().name("question-list-cache-refresher").daemon().factory();
+
+        refresher = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    public PageDto<QuestionListDto> get(Key key, Supplier<PageDto<QuestionListDto>> loader) {
+        if (key.page() > cachedPages) return loader.get();
+
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+
+            if (age < ttlSeconds * 1000) return entry.value;
+
+            if (age < (ttlSeconds + staleSeconds) * 1000) {
+                refreshAsync(key, entry, loader);
+
+                return entry.value;
+            }
+        }
+
+        return load(key, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(QuestionChangedEvent event) {
+        boolean listedBefore = event.before() != null && event.before().listed();
+        boolean listedAfter = event.after() != null && event.after().listed();
+
+        if (listedBefore || listedAfter) invalidateAll();
+    }
+
+    // 해당 글이 들어 있는 페이지만 비운다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(QuestionAnswerCountChangedEvent event) {
+        generation.incrementAndGet();
+        entries.removeIf(entry -> entry.questionIds.contains(event.questionId()));
+    }
+
+    // 목록 행에는 작성자 id 가 없으므로 전부 비운다. (회원 정보 수정은 드물다.)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(SiteUserChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void refreshAsync(Key key, Entry entry, Supplier<PageDto<QuestionListDto>> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) return;
+
+        try {
+            refresher.execute(() -> {
+                try {
+                    load(key, loader);
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private PageDto<QuestionListDto> load(Key key, Supplier<PageDto<QuestionListDto>> loader) {
+        long loadGeneration = generation.get();
+
+        PageDto<QuestionListDto> value = loader.get();
+
+        if (loadGeneration == generation.get()) {
+            Entry entry = new Entry(value, System.currentTimeMillis());
+
+            // stale 기간까지 지나면 캐시에서 빠진다.
+            entries.put(key, entry, entry.loadedAt + (ttlSeconds + staleSeconds) * 1000);
+
+            // put 도중 무효화된 경우 방금 넣은 값을 버린다.
+            if (loadGeneration != generation.get()) entries.remove(key, entry);
+        }
+
+        return value;
+    }
+
+}
@@ -1,27 +1,136 @@
 package com.ll.sbbdoc20250109.domain.question;
 
+import com.ll.sbbdoc20250109.domain.question.dto.QuestionListDto;
 import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findAllByOrderByIdDesc();
 
     Optional<Question> findFirstByOrderByIdDesc();
 
-    Page<Question> findByListed(boolean listed, PageRequest pageRequest);
+    // 목록 조회용 프로젝션 - content 컬럼을 읽지 않고 작성자 닉네임까지 한 번에 조회한다.
+    String LIST_DTO_SELECT = """
+            select new com.ll.sbbdoc20250109.domain.question.dto.QuestionListDto(
+                q.id, q.createDate, q.modifyDate, q.subject, a.nickname, q.published, q.listed, q.answerCount
+            )
+            from Question q
+            left join q.author a
+            """;
 
-    Page<Question> findByListedAndSubjectLike(boolean listed, String subjectLike, PageRequest pageRequest);
+    @Query(value = LIST_DTO_SELECT + "where q.listed = :listed",
+            countQuery = "select count(q) from Question q where q.listed = :listed")
+    Page<QuestionListDto> findListDtosByListed(boolean listed, Pageable pageable);
 
-    Page<Question> findByListedAndContentLike(boolean listed, String contentLike, PageRequest pageRequest);
+    @Query(value = LIST_DTO_SELECT + "where q.listed = :listed and q.subject like :subjectLike",
+            countQuery = "select count(q) from Question q where q.listed = :listed and q.subject like :subjectLike")
+    Page<QuestionListDto> findListDtosByListedAndSubjectLike(boolean listed, String subjectLike, Pageable pageable);
 
-    Page<Question> findByAuthor(SiteUser author, PageRequest pageRequest);
+    @Query(value = LIST_DTO_SELECT + "where q.listed = :listed and q.content like :contentLike",
+            countQuery = "select count(q) from Question q where q.listed = :listed and q.content like :contentLike")
+    Page<QuestionListDto> findListDtosByListedAndContentLike(boolean listed, String contentLike, Pageable pageable);
 
-    Page<Question> findByAuthorAndSubjectLike(SiteUser author, String subjectLike, PageRequest pageRequest);
+    @Query(value = LIST_DTO_SELECT + "where q.author = :author",
+            countQuery = "select count(q) from Question q where q.author = :author")
+    Page<QuestionListDto> findListDtosByAuthor(SiteUser author, Pageable pageable);
 
-    Page<Question> findByAuthorAndContentLike(SiteUser author, String contentLike, PageRequest pageRequest);
+    @Query(value = LIST_DTO_SELECT + "where q.author = :author and q.subject like :subjectLike",
+            countQuery = "select count(q) from Question q where q.author = :author and q.subject like :subjectLike")
+    Page<QuestionListDto> findListDtosByAuthorAndSubjectLike(SiteUser author, String subjectLike, Pageable pageable);
+
+    @Query(value = LIST_DTO_SELECT + "where q.author = :author and q.content like :contentLike",
+            countQuery = "select count(q) from Question q where q.author = :author and q.content like :contentLike")
+    Page<QuestionListDto> findListDtosByAuthorAndContentLike(SiteUser author, String contentLike, Pageable pageable);
+
+    @Query(LIST_DTO_SELECT + "where q.id in :ids order by q.id desc")
+    List<QuestionListDto> findListDtosByIdIn(List<Long> ids);
+
+    // 커서 조회 - List 반환이므로 Pageable 은 limit 로만 쓰이고 COUNT 쿼리는 실행되지 않는다.
+    @Query(LIST_DTO_SELECT + "where q.listed = :listed order by q.id desc")
+    List<QuestionListDto> findListDtosByListedOrderByIdDesc(boolean listed, Pageable pageable);
+
+    @Query(LIST_DTO_SELECT + "where q.listed = :listed and q.id < :id order by q.id desc")
+    List<QuestionListDto> findListDtosByListedAndIdLessThan(boolean listed, long id, Pageable pageable);
+
+    @Query(LIST_DTO_SELECT + "where q.listed = :listed and q.id > :id order by q.id asc")
+    List<QuestionListDto> findListDtosByListedAndIdGreaterThan(boolean listed, long id, Pageable pageable);
+
+    @Query(LIST_DTO_SELECT + "where q.author = :author order by q.id desc")
+    List<QuestionListDto> findListDtosByAuthorOrderByIdDesc(SiteUser author, Pageable pageable);
+
+    @Query(LIST_DTO_SELECT + "where q.author = :author and q.id < :id order by q.id desc")
+    List<QuestionListDto> findListDtosByAuthorAndIdLessThan(SiteUser author, long id, Pageable pageable);
+
+    @Query(LIST_DTO_SELECT + "where q.author = :author and q.id > :id order by q.id asc")
+    List<QuestionListDto> findListDtosByAuthorAndIdGreaterThan(SiteUser author, long id, Pageable pageable);
+
+    @Query("""
+            select new com.ll.sbbdoc20250109.domain.question.QuestionVersion(
+                q.id,
+                q.published,
+                q.modifyDate,
+                (select max(a.modifyDate) from Answer a where a.question = q),
+                q.answerCount
+            )
+            from Question q
+            where q.id = :id
+            """)
+    Optional<QuestionVersion> findVersionById(long id);
+
+    @Modifying
+    @Query("update Question q set q.answerCount = q.answerCount + :delta where q.id = :id")
+    int increaseAnswerCount(long id, long delta);
+
+    @Modifying
+    @Query("""
+            update Question q
+            set q.answerCount = (select count(a) from Answer a where a.question = q)
+            where q.id between :fromId and :toId
+            """)
+    int repairAnswerCounts(long fromId, long toId);
+
+    // 댓글이 있는데 answerCount 가 0 인 글 (answer_count 컬럼이 새로 추가된 기존 데이터)
+    @Query("""
+            select q.id
+            from Question q
+            where q.answerCount = 0
+            and exists (select a.id from Answer a where a.question = q)
+            """)
+    List<Long> findIdsWithMissingAnswerCount(Pageable pageable);
+
+    long countByPublished(boolean published);
+
+    long countByListed(boolean listed);
+
+    // 내보내기용 스트리밍 조회 - fetch size 단위로 읽고 스냅샷을 만들지 않는다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select q from Question q left join fetch q.author order by q.id asc")
+    Stream<Question> streamAllWithAuthor();
+
+    @Query("select min(q.id) from Question q")
+    Long findMinId();
+
+    @Query("select max(q.id) from Question q")
+    Long findMaxId();
+
+    @Query("""
+            select new com.ll.sbbdoc20250109.domain.question.QuestionSearchDocument(q.id, q.subject, q.content, q.listed)
+            from Question q
+            where q.id between :fromId and :toId
+            """)
+    List<QuestionSearchDocument> findSearchDocumentsByIdBetween(long fromId, long toId);
 }
@@ -0,0 +1,9 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+// 검색 색인 재구성용 프로젝션 (author, answerList 를 로딩하지 않는다)
+public record QuestionSearchDocument(
+        Long id,
+        String subject,
+        String content,
+        boolean listed
+) {}
@@ -0,0 +1,232 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import com.ll.sbbdoc20250109.standard.serach.SearchKeywordTypeV1;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+// 제목 / 내용 검색용 인메모리 역색인
+// 형태소 분석기 없이 한글을 검색할 수 있도록 문자 1-gram, 2-gram 단위로 색인한다.
+// 내용은 앞 custom.questionSearchIndex.maxContentLength 자만 색인하고 보관하므로, 그 뒤에만 있는 검색어는 찾지 못한다.
+@Component
+@RequiredArgsConstructor
+public class QuestionSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final QuestionRepository questionRepository;
+
+    @Value("${custom.questionSearchIndex.maxContentLength}")
+    private int maxContentLength;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> subjectPostings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> contentPostings = new ConcurrentHashMap<>();
+
+    // 재구성 도중 삭제된 글이 다시 색인되지 않도록 기록
+    private final Set<Long> removedWhileRebuilding = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    private record Document(String subject, String content, boolean listed) {}
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+
+        Long minId = questionRepository.findMinId();
+        Long maxId = questionRepository.findMaxId();
+
+        if (minId != null && maxId != null) {
+            long chunkCount = (maxId - minId) / REBUILD_CHUNK_SIZE + 1;
+
+            LongStream.range(0, chunkCount)
+                    .parallel()
+                    .forEach(chunk -> {
+                        long fromId = minId + chunk * REBUILD_CHUNK_SIZE;
+                        long toId = fromId + REBUILD_CHUNK_SIZE - 1;
+
+                        questionRepository.findSearchDocumentsByIdBetween(fromId, toId)
+                                .forEach(this::putIfAbsent);
+                    });
+        }
+
+        rebuilding = false;
+        removedWhileRebuilding.clear();
+        ready = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(QuestionChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.questionId());
+            return;
+        }
+
+        QuestionChangedEvent.Snapshot after = event.after();
+
+        put(event.questionId(), document(after.subject(), after.content(), after.listed()), false);
+    }
+
+    // 최신 글 순(id desc)으로 정렬된 글 번호 목록을 반환한다.
+    public List<Long> search(SearchKeywordTypeV1 searchKeywordType, String searchKeyword, boolean listed) {
+        boolean isContent = searchKeywordType == SearchKeywordTypeV1.content;
+        Map<String, Set<Long>> postings = isContent ? contentPostings : subjectPostings;
+
+        List<Set<Long>> postingSets = new ArrayList<>();
+
+        for (String gram : queryGrams(searchKeyword)) {
+            Set<Long> postingSet = postings.get(gram);
+
+            if (postingSet == null || postingSet.isEmpty()) return List.of();
+
+            postingSets.add(postingSet);
+        }
+
+        if (postingSets.isEmpty()) return List.of();
+
+        postingSets.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> smallest = postingSets.getFirst();
+        List<Set<Long>> others = postingSets.subList(1, postingSets.size());
+
+        // 2글자 이하는 n-gram 일치가 곧 부분 문자열 일치이므로 원문 확인이 필요 없다.
+        boolean needsVerify = searchKeyword.length() > 2;
+
+        List<Long> ids = new ArrayList<>();
+
+        for (Long id : smallest) {
+            Document document = documents.get(id);
+
+            if (document == null || document.listed() != listed) continue;
+            if (!containsAll(others, id)) continue;
+
+            if (needsVerify) {
+                String text = isContent ? document.content() : document.subject();
+
+                if (text == null || !text.contains(searchKeyword)) continue;
+            }
+
+            ids.add(id);
+        }
+
+        ids.sort(Comparator.reverseOrder());
+
+        return ids;
+    }
+
+    private Document document(String subject, String content, boolean listed) {
+        if (content != null && content.length() > maxContentLength) content = content.substring(0, maxContentLength);
+
+        return new Document(subject, content, listed);
+    }
+
+    private boolean containsAll(List<Set<Long>> postingSets, Long id) {
+        for (Set<Long> postingSet : postingSets) {
+            if (!postingSet.contains(id)) return false;
+        }
+
+        return true;
+    }
+
+    private void putIfAbsent(QuestionSearchDocument searchDocument) {
+        put(
+                searchDocument.id(),
+                document(searchDocument.subject(), searchDocument.content(), searchDocument.listed()),
+                true
+        );
+    }
+
+    // 재구성 중 삭제 확인과 색인을 같은 글 번호의 compute 안에서 한다.
+    // remove 는 removedWhileRebuilding 에 먼저 기록한 뒤 같은 키로 compute 하므로,
+    // 둘 중 어느 쪽이 먼저 잠금을 잡든 삭제된 글이 다시 색인되지 않는다.
+    private void put(long id, Document document, boolean onlyIfAbsent) {
+        documents.compute(id, (key, old) -> {
+            if (old != null && onlyIfAbsent) return old;
+            if (onlyIfAbsent && removedWhileRebuilding.contains(id)) return null;
+
+            if (old != null) unindex(id, old);
+
+            index(id, document);
+
+            return document;
+        });
+    }
+
+    private void remove(long id) {
+        if (rebuilding) removedWhileRebuilding.add(id);
+
+        documents.compute(id, (key, old) -> {
+            if (old != null) unindex(id, old);
+
+            return null;
+        });
+    }
+
+    private void index(long id, Document document) {
+        for (String gram : textGrams(document.subject())) {
+            subjectPostings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        for (String gram : textGrams(document.content())) {
+            contentPostings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void unindex(long id, Document document) {
+        for (String gram : textGrams(document.subject())) {
+            Set<Long> postingSet = subjectPostings.get(gram);
+
+            if (postingSet != null) postingSet.remove(id);
+        }
+
+        for (String gram : textGrams(document.content())) {
+            Set<Long> postingSet = contentPostings.get(gram);
+
+            if (postingSet != null) postingSet.remove(id);
+        }
+    }
+
+    private static Set<String> textGrams(String text) {
+        if (text == null || text.isEmpty()) return Set.of();
+
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+
+            if (i + 2 <= text.length()) grams.add(text.substring(i, i + 2));
+        }
+
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String keyword) {
+        if (keyword.length() == 1) return Set.of(keyword);
+
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i + 2 <= keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + 2));
+        }
+
+        return grams;
+    }
+
+}
@@ -1,13 +1,18 @@
 package com.ll.sbbdoc20250109.domain.question;
 
+import com.ll.sbbdoc20250109.domain.question.dto.QuestionListDto;
 import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.standard.page.CursorPageDto;
 import com.ll.sbbdoc20250109.standard.serach.SearchKeywordTypeV1;
 import com.ll.sbbdoc20250109.standard.util.Ut;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,19 +21,24 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class QuestionService {
 
+    private static final int MAX_CURSOR_LIMIT = 100;
+
     private final QuestionRepository questionRepository;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Optional<Question> findLatest() {
         return questionRepository.findFirstByOrderByIdDesc();
     }
 
-    public Page<Question> findByListedPaged(boolean listed, int page, int pageSize) {
+    public Page<QuestionListDto> findByListedPaged(boolean listed, int page, int pageSize) {
         PageRequest pageRequest = PageRequest.of(page - 1, pageSize, Sort.by(Sort.Order.desc("id")));
 
-        return questionRepository.findByListed(listed, pageRequest);
+        return questionRepository.findListDtosByListed(listed, pageRequest);
     }
 
-    public Page<Question> findByListedPaged(
+    @Transactional(readOnly = true)
+    public Page<QuestionListDto> findByListedPaged(
             boolean listed,
             SearchKeywordTypeV1 searchKeywordType,
             String searchKeyword,
@@ -39,22 +49,42 @@ public class QuestionService {
 
         PageRequest pageRequest = PageRequest.of(page - 1, pageSize, Sort.by(Sort.Order.desc("id")));
 
+        if (questionSearchIndex.isReady()) return searchByIndex(listed, searchKeywordType, searchKeyword, pageRequest);
+
         searchKeyword = "%" + searchKeyword + "%";
 
         return switch (searchKeywordType) {
             case SearchKeywordTypeV1.content ->
-                    questionRepository.findByListedAndContentLike(listed, searchKeyword, pageRequest);
-            default -> questionRepository.findByListedAndSubjectLike(listed, searchKeyword, pageRequest);
+                    questionRepository.findListDtosByListedAndContentLike(listed, searchKeyword, pageRequest);
+            default -> questionRepository.findListDtosByListedAndSubjectLike(listed, searchKeyword, pageRequest);
         };
     }
 
-    public Page<Question> findByAuthorPaged(SiteUser author, int page, int pageSize) {
+    private Page<QuestionListDto> searchByIndex(
+            boolean listed,
+            SearchKeywordTypeV1 searchKeywordType,
+            String searchKeyword,
+            PageRequest pageRequest
+    ) {
+        List<Long> ids = questionSearchIndex.search(searchKeywordType, searchKeyword, listed);
+
+        int from = (int) Math.min(pageRequest.getOffset(), ids.size());
+        int to = Math.min(from + pageRequest.getPageSize(), ids.size());
+
+        List<QuestionListDto> items = from == to
+                ? List.of()
+                : questionRepository.findListDtosByIdIn(ids.subList(from, to));
+
+        return new PageImpl<>(items, pageRequest, ids.size());
+    }
+
+    public Page<QuestionListDto> findByAuthorPaged(SiteUser author, int page, int pageSize) {
         PageRequest pageRequest = PageRequest.of(page - 1, pageSize, Sort.by(Sort.Order.desc("id")));
 
-        return questionRepository.findByAuthor(author, pageRequest);
+        return questionRepository.findListDtosByAuthor(author, pageRequest);
     }
 
-    public Page<Question> findByAuthorPaged(
+    public Page<QuestionListDto> findByAuthorPaged(
             SiteUser author,
             SearchKeywordTypeV1 searchKeywordType,
             String searchKeyword,
@@ -69,32 +99,88 @@ public class QuestionService {
 
         return switch (searchKeywordType) {
             case SearchKeywordTypeV1.content ->
-                    questionRepository.findByAuthorAndContentLike(author, searchKeyword, pageRequest);
-            default -> questionRepository.findByAuthorAndSubjectLike(author, searchKeyword, pageRequest);
+                    questionRepository.findListDtosByAuthorAndContentLike(author, searchKeyword, pageRequest);
+            default -> questionRepository.findListDtosByAuthorAndSubjectLike(author, searchKeyword, pageRequest);
         };
     }
 
+    public CursorPageDto<QuestionListDto> findByListedCursor(boolean listed, String after, String before, int limit) {
+        return CursorPageDto.fetch(
+                after,
+                before,
+                Math.min(limit, MAX_CURSOR_LIMIT),
+                QuestionListDto::getId,
+                p -> questionRepository.findListDtosByListedOrderByIdDesc(listed, p),
+                (id, p) -> questionRepository.findListDtosByListedAndIdLessThan(listed, id, p),
+                (id, p) -> questionRepository.findListDtosByListedAndIdGreaterThan(listed, id, p)
+        );
+    }
+
+    public CursorPageDto<QuestionListDto> findByAuthorCursor(SiteUser author, String after, String before, int limit) {
+        return CursorPageDto.fetch(
+                after,
+                before,
+                Math.min(limit, MAX_CURSOR_LIMIT),
+                QuestionListDto::getId,
+                p -> questionRepository.findListDtosByAuthorOrderByIdDesc(author, p),
+                (id, p) -> questionRepository.findListDtosByAuthorAndIdLessThan(author, id, p),
+                (id, p) -> questionRepository.findListDtosByAuthorAndIdGreaterThan(author, id, p)
+        );
+    }
+
+    public record AnswerDraft(SiteUser author, String content) {}
+
     public Question write(SiteUser user, String subject, String content, boolean published, boolean listed) {
+        return write(user, subject, content, published, listed, List.of());
+    }
+
+    // 댓글과 함께 작성 (일괄 등록용)
+    // 새 글의 answerList 에 추가하므로 cascade 로 함께 insert 되고, answerCount 도 insert 시점에 채워진다.
+    public Question write(
+            SiteUser user,
+            String subject,
+            String content,
+            boolean published,
+            boolean listed,
+            List<AnswerDraft> answers
+    ) {
         Question question = Question.builder()
                 .author(user)
                 .subject(subject)
                 .content(content)
                 .published(published)
                 .listed(listed)
+                .answerCount(answers.size())
                 .build();
 
-        return questionRepository.save(question);
+        answers.forEach(answer -> question.createAnswer(answer.author(), answer.content()));
+
+        questionRepository.save(question);
+
+        eventPublisher.publishEvent(QuestionChangedEvent.created(question));
+
+        return question;
     }
 
     public void delete(Question question) {
+        QuestionChangedEvent event = QuestionChangedEvent.deleted(question);
+
         questionRepository.delete(question);
+
+        eventPublisher.publishEvent(event);
     }
 
     public void modify(Question question, String subject, String content, boolean published, boolean listed) {
+        QuestionChangedEvent.Snapshot before = QuestionChangedEvent.Snapshot.of(question);
+
         question.setSubject(subject);
         question.setContent(content);
         question.setPublished(published);
         question.setListed(listed);
+
+        eventPublisher.publishEvent(
+                QuestionChangedEvent.modified(question.getId(), before, QuestionChangedEvent.Snapshot.of(question))
+        );
     }
 
     public long count() {
@@ -109,6 +195,37 @@ public class QuestionService {
         return questionRepository.findById(id);
     }
 
+    public void increaseAnswerCount(long id, long delta) {
+        questionRepository.increaseAnswerCount(id, delta);
+
+        eventPublisher.publishEvent(new QuestionAnswerCountChangedEvent(id));
+    }
+
+    @Transactional
+    public int repairAnswerCounts(long fromId, long toId) {
+        return questionRepository.repairAnswerCounts(fromId, toId);
+    }
+
+    public boolean hasMissingAnswerCounts() {
+        return !questionRepository.findIdsWithMissingAnswerCount(PageRequest.of(0, 1)).isEmpty();
+    }
+
+    public Long findMinId() {
+        return questionRepository.findMinId();
+    }
+
+    public Long findMaxId() {
+        return questionRepository.findMaxId();
+    }
+
+    public boolean existsById(long id) {
+        return questionRepository.existsById(id);
+    }
+
+    public Optional<QuestionVersion> findVersionById(long id) {
+        return questionRepository.findVersionById(id);
+    }
+
     public void flush() {
         questionRepository.flush();
     }
@@ -0,0 +1,76 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 글 통계 카운터
+// 시작 시 DB 값으로 초기화하고, 커밋된 글 변경 이벤트로 증감하며, 주기적으로 DB 와 맞춘다.
+@Component
+@RequiredArgsConstructor
+public class QuestionStatistics {
+
+    private final QuestionRepository questionRepository;
+
+    private final LongAdder totalQuestionCount = new LongAdder();
+    private final LongAdder totalPublishedCount = new LongAdder();
+    private final LongAdder totalListedCount = new LongAdder();
+
+    public long getTotalQuestionCount() {
+        return totalQuestionCount.sum();
+    }
+
+    public long getTotalPublishedCount() {
+        return totalPublishedCount.sum();
+    }
+
+    public long getTotalListedCount() {
+        return totalListedCount.sum();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(QuestionChangedEvent event) {
+        QuestionChangedEvent.Snapshot before = event.before();
+        QuestionChangedEvent.Snapshot after = event.after();
+
+        if (event.isCreated()) totalQuestionCount.increment();
+        if (event.isDeleted()) totalQuestionCount.decrement();
+
+        boolean publishedBefore = before != null && before.published();
+        boolean publishedAfter = after != null && after.published();
+        boolean listedBefore = before != null && before.listed();
+        boolean listedAfter = after != null && after.listed();
+
+        if (publishedBefore != publishedAfter) totalPublishedCount.add(publishedAfter ? 1 : -1);
+        if (listedBefore != listedAfter) totalListedCount.add(listedAfter ? 1 : -1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.questionStatistics.reconcileIntervalSeconds}",
+            fixedDelayString = "${custom.questionStatistics.reconcileIntervalSeconds}",
+            timeUnit = TimeUnit.SECONDS
+    )
+    public void reconcile() {
+        correct(totalQuestionCount, questionRepository.count());
+        correct(totalPublishedCount, questionRepository.countByPublished(true));
+        correct(totalListedCount, questionRepository.countByListed(true));
+    }
+
+    private void correct(LongAdder counter, long actual) {
+        long drift = actual - counter.sum();
+
+        if (drift != 0) counter.add(drift);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 조건부 GET(ETag / Last-Modified) 판단용 프로젝션
+// 글의 수정일, 댓글의 마지막 수정일, 댓글 수만 조회한다.
+public record QuestionVersion(
+        Long id,
+        boolean published,
+        LocalDateTime modifyDate,
+        LocalDateTime lastAnswerModifyDate,
+        long answerCount
+) {
+
+    public LocalDateTime lastModifiedDate() {
+        if (lastAnswerModifyDate == null) return modifyDate;
+        if (modifyDate != null && lastAnswerModifyDate.isBefore(modifyDate)) return modifyDate;
+
+        return lastAnswerModifyDate;
+    }
+
+    public long lastModified() {
+        LocalDateTime lastModifiedDate = lastModifiedDate();
+
+        if (lastModifiedDate == null) return -1;
+
+        return lastModifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public String etag() {
+        return "\"%d-%s-%s-%d\"".formatted(
+                id,
+                toVersionString(modifyDate),
+                toVersionString(lastAnswerModifyDate),
+                answerCount
+        );
+    }
+
+    private static String toVersionString(LocalDateTime dateTime) {
+        if (dateTime == null) return "0";
+
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+
+        return Long.toHexString(instant.getEpochSecond()) + Integer.toHexString(instant.getNano());
+    }
+
+}
@@ -24,15 +24,23 @@ public class QuestionDetailDto {
 
     private boolean listed;
 
+    private long answerCount;
+
     public QuestionDetailDto(Question question) {
+        this(question, question.getAuthor().getNickname());
+    }
+
+    // 작성자를 로딩하지 않고 캐시된 닉네임을 쓰는 경우 (UserService.findNicknameById)
+    public QuestionDetailDto(Question question, String author) {
         this.id = question.getId();
         this.subject = question.getSubject();
         this.content = question.getContent();
         this.createDate = question.getCreateDate();
         this.modifyDate = question.getModifyDate();
-        this.author = question.getAuthor().getNickname();
+        this.author = author;
         this.published = question.isPublished();
         this.listed = question.isListed();
+        this.answerCount = question.getAnswerCount();
     }
 
 }
@@ -22,6 +22,8 @@ public class QuestionListDto {
 
     private boolean listed;
 
+    private long answerCount;
+
     public QuestionListDto(Question question) {
         this.id = question.getId();
         this.createDate = question.getCreateDate();
@@ -30,5 +32,27 @@ public class QuestionListDto {
         this.author = question.getAuthor().getNickname();
         this.published = question.isPublished();
         this.listed = question.isListed();
+        this.answerCount = question.getAnswerCount();
+    }
+
+    // QuestionRepository 의 프로젝션 쿼리에서 사용
+    public QuestionListDto(
+            Long id,
+            LocalDateTime createDate,
+            LocalDateTime modifyDate,
+            String subject,
+            String author,
+            boolean published,
+            boolean listed,
+            long answerCount
+    ) {
+        this.id = id;
+        this.createDate = createDate;
+        this.modifyDate = modifyDate;
+        this.subject = subject;
+        this.author = author;
+        this.published = published;
+        this.listed = listed;
+        this.answerCount = answerCount;
     }
 }
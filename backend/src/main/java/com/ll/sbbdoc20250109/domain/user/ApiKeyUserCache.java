@@ -0,0 +1,62 @@
+package com.ll.sbbdoc20250109.domain.user;
+
+import com.ll.sbbdoc20250109.standard.cache.LruCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+// apiKey 로 액세스 토큰을 재발급할 때 쓰는 회원 정보 캐시
+// 회원 정보가 수정되면 커밋 이후 해당 회원의 항목을 제거한다.
+@Component
+public class ApiKeyUserCache {
+
+    public record CachedUser(long id, String username, String apiKey) {
+        public SiteUser toSiteUser() {
+            SiteUser user = new SiteUser(id, username);
+            user.setApiKey(apiKey);
+
+            return user;
+        }
+    }
+
+    @Value("${custom.apiKeyUserCache.maxSize}")
+    private int maxSize;
+
+    @Value("${custom.apiKeyUserCache.ttlSeconds}")
+    private long ttlSeconds;
+
+    private LruCache<String, CachedUser> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new LruCache<>(maxSize);
+    }
+
+    public Optional<CachedUser> get(String apiKey, Function<String, Optional<SiteUser>> loader) {
+        CachedUser cached = entries.get(apiKey);
+
+        if (cached != null) return Optional.of(cached);
+
+        Optional<CachedUser> user = loader.apply(apiKey)
+                .map(it -> new CachedUser(it.getId(), it.getUsername(), it.getApiKey()));
+
+        user.ifPresent(it -> entries.put(apiKey, it, System.currentTimeMillis() + ttlSeconds * 1000));
+
+        return user;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(SiteUserChangedEvent event) {
+        evictByUserId(event.userId());
+    }
+
+    // apiKey 가 키라서 회원 id 로 찾으려면 전체를 훑는다. (수정 이벤트에서만 호출)
+    public void evictByUserId(long userId) {
+        entries.removeIf(user -> user.id() == userId);
+    }
+
+}
@@ -1,9 +1,20 @@
 package com.ll.sbbdoc20250109.domain.user;
 
+import com.ll.sbbdoc20250109.standard.cache.LruCache;
 import com.ll.sbbdoc20250109.standard.util.Ut;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import jakarta.annotation.PostConstruct;
+import lombok.SneakyThrows;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Date;
 import java.util.Map;
 
 @Service
@@ -15,26 +26,81 @@ public class AuthTokenService {
     @Value("${custom.accessToken.expirationSeconds}")
     private long accessTokenExpirationSeconds;
 
+    @Value("${custom.accessToken.verifiedCacheMaxSize}")
+    private int verifiedCacheMaxSize;
+
+    // 요청마다 키를 만들고 파서를 빌드하지 않도록 한 번만 만든다.
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+
+    // 서명 검증이 끝난 토큰의 payload, 토큰 원문 대신 SHA-256 digest 를 키로 쓴다.
+    // 토큰의 exp 까지만 유효하고, 가득 차면 가장 오래 쓰이지 않은 토큰을 내보낸다.
+    private LruCache<String, Map<String, Object>> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        secretKey = Ut.jwt.secretKey(jwtSecretKey);
+        jwtParser = Ut.jwt.parser(secretKey);
+        verifiedTokens = new LruCache<>(verifiedCacheMaxSize);
+    }
+
     String genAccessToken(SiteUser user) {
         long id = user.getId();
         String username = user.getUsername();
 
         return Ut.jwt.toString(
-                jwtSecretKey,
+                secretKey,
                 accessTokenExpirationSeconds,
                 Map.of("id", id, "username", username)
         );
     }
 
+    // 서명 검증 없이 exp 만 보고 재발급이 필요한지 판단한다. 형식이 깨진 토큰도 재발급 대상이다.
+    // 인증은 반드시 payload() 로 한다.
+    boolean needsRefresh(String accessToken) {
+        Long expiration = Ut.jwt.unverifiedExpiration(accessToken);
+
+        return expiration == null || expiration * 1000 <= System.currentTimeMillis();
+    }
+
     Map<String, Object> payload(String accessToken) {
-        Map<String, Object> parsePayload = Ut.jwt.payload(jwtSecretKey, accessToken);
+        String digest = digest(accessToken);
+
+        Map<String, Object> cachedPayload = verifiedTokens.get(digest);
+
+        if (cachedPayload != null) return cachedPayload;
+
+        Claims claims = Ut.jwt.claims(jwtParser, accessToken);
 
-        if (parsePayload == null) return null;
+        if (claims == null) return null;
+
+        long id = ((Number) claims.get("id")).longValue();
+        String username = (String) claims.get("username");
+
+        Map<String, Object> payload = Map.of("id", id, "username", username);
+
+        Date expiration = claims.getExpiration();
+
+        if (expiration != null) verifiedTokens.put(digest, payload, expiration.getTime());
+
+        return payload;
+    }
+
+    // 만료된 토큰은 요청 경로가 아닌 여기서 한꺼번에 비운다.
+    @Scheduled(fixedDelayString = "${custom.accessToken.verifiedCachePurgeIntervalMillis}")
+    public void purgeExpiredVerifiedTokens() {
+        verifiedTokens.purgeExpired();
+    }
+
+    public LruCache.Stats getVerifiedTokenCacheStats() {
+        return verifiedTokens.stats();
+    }
 
-        long id = (long) (Integer) parsePayload.get("id");
-        String username = (String) parsePayload.get("username");
+    @SneakyThrows
+    private static String digest(String token) {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
 
-        return Map.of("id", id, "username", username);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
     }
 
 }
@@ -11,6 +11,7 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
+@EntityListeners(SiteUserEntityListener.class)
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,56 @@
+package com.ll.sbbdoc20250109.domain.user;
+
+import com.ll.sbbdoc20250109.standard.cache.LruCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+// 작성자 표시용 회원 정보 캐시 (id -> 닉네임 / 권한)
+// 글 상세, 댓글 작성 응답에서 작성자 닉네임 때문에 SiteUser 를 다시 조회하지 않도록 한다.
+// 회원 정보가 수정되면 커밋 이후 해당 항목을 제거한다.
+@Component
+public class SiteUserCache {
+
+    public record CachedSiteUser(long id, String username, String nickname, List<String> authorities) {}
+
+    @Value("${custom.siteUserCache.maxSize}")
+    private int maxSize;
+
+    @Value("${custom.siteUserCache.ttlSeconds}")
+    private long ttlSeconds;
+
+    private LruCache<Long, CachedSiteUser> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new LruCache<>(maxSize);
+    }
+
+    public Optional<CachedSiteUser> get(long id, LongFunction<Optional<SiteUser>> loader) {
+        CachedSiteUser cached = entries.get(id);
+
+        if (cached != null) return Optional.of(cached);
+
+        Optional<CachedSiteUser> user = loader.apply(id)
+                .map(it -> new CachedSiteUser(it.getId(), it.getUsername(), it.getNickname(), it.getAuthoritiesAsStringList()));
+
+        user.ifPresent(it -> entries.put(id, it, System.currentTimeMillis() + ttlSeconds * 1000));
+
+        return user;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(SiteUserChangedEvent event) {
+        entries.remove(event.userId());
+    }
+
+    public LruCache.Stats getStats() {
+        return entries.stats();
+    }
+
+}
@@ -0,0 +1,5 @@
+package com.ll.sbbdoc20250109.domain.user;
+
+// 회원 정보(apiKey 등)가 수정 / 삭제되었을 때 발행되는 이벤트
+public record SiteUserChangedEvent(long userId) {
+}
@@ -0,0 +1,22 @@
+package com.ll.sbbdoc20250109.domain.user;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// setApiKey 처럼 엔티티를 직접 수정하는 경우도 놓치지 않도록 JPA 콜백에서 이벤트를 발행한다.
+@Component
+@RequiredArgsConstructor
+public class SiteUserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void changed(SiteUser user) {
+        eventPublisher.publishEvent(new SiteUserChangedEvent(user.getId()));
+    }
+
+}
@@ -4,8 +4,10 @@ import com.ll.sbbdoc20250109.domain.question.QuestionService;
 import com.ll.sbbdoc20250109.domain.question.dto.QuestionListDto;
 import com.ll.sbbdoc20250109.domain.user.dto.SiteUserDto;
 import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
+import com.ll.sbbdoc20250109.global.jpa.QueryBudget;
 import com.ll.sbbdoc20250109.global.rq.Rq;
 import com.ll.sbbdoc20250109.global.rsData.RsData;
+import com.ll.sbbdoc20250109.standard.page.CursorPageDto;
 import com.ll.sbbdoc20250109.standard.page.PageDto;
 import com.ll.sbbdoc20250109.standard.serach.SearchKeywordTypeV1;
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,6 +48,7 @@ public class UserController {
     ) {}
 
     @Operation(summary = "회원가입")
+    @QueryBudget(4)
     @PostMapping("/sign-up")
     @Transactional
     public RsData<SiteUserDto> signup(
@@ -73,9 +76,11 @@ public class UserController {
             String accessToken
     ) {}
 
+    // 가입 직후 로그인도 찾을 수 있도록 읽기 전용(replica)이 아닌 트랜잭션으로 조회한다. (ReadWriteRoutingDataSource)
     @Operation(summary = "로그인")
+    @QueryBudget(2)
     @PostMapping("/login")
-    @Transactional(readOnly = true)
+    @Transactional
     public RsData<UserLoginResBody> login(
             @Valid @RequestBody UserLoginReqBody reqBody
     ) {
@@ -104,6 +109,7 @@ public class UserController {
     }
 
     @Operation(summary = "로그아웃")
+    @QueryBudget(0)
     @DeleteMapping("/logout")
     @Transactional(readOnly = true)
     public RsData<Void> logout() {
@@ -117,6 +123,7 @@ public class UserController {
     }
 
     @Operation(summary = "프로필")
+    @QueryBudget(3)
     @GetMapping("/profile")
     @Transactional(readOnly = true)
     public SiteUserDto profile() {
@@ -126,6 +133,7 @@ public class UserController {
     }
 
     @Operation(summary = "내 글 조회")
+    @QueryBudget(4)
     @GetMapping("/profile/my-list")
     @Transactional(readOnly = true)
     public PageDto<QuestionListDto> myList(
@@ -138,8 +146,21 @@ public class UserController {
 
         return new PageDto<>(
                 questionService.findByAuthorPaged(user, searchKeywordType, searchKeyword, page, pageSize)
-                        .map(QuestionListDto::new)
         );
     }
 
+    @Operation(summary = "내 글 조회 (커서)")
+    @QueryBudget(3)
+    @GetMapping(value = "/profile/my-list", params = "limit")
+    @Transactional(readOnly = true)
+    public CursorPageDto<QuestionListDto> myCursorList(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam int limit
+    ) {
+        SiteUser user = rq.getActor();
+
+        return questionService.findByAuthorCursor(user, after, before, limit);
+    }
+
 }
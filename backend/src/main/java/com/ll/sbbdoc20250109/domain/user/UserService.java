@@ -3,9 +3,13 @@ package com.ll.sbbdoc20250109.domain.user;
 import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -13,6 +17,9 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final AuthTokenService authTokenService;
+    private final ApiKeyUserCache apiKeyUserCache;
+    private final SiteUserCache siteUserCache;
+    private final PlatformTransactionManager transactionManager;
 
     public long count() {
         return userRepository.count();
@@ -43,6 +50,21 @@ public class UserService {
         return userRepository.findByApiKey(apiKey);
     }
 
+    // 토큰 재발급용, 엔티티 대신 캐시된 id / username / apiKey 만 채운 SiteUser 를 반환한다.
+    public Optional<SiteUser> findCachedByApiKey(String apiKey) {
+        return apiKeyUserCache
+                .get(apiKey, key -> onPrimary(() -> userRepository.findByApiKey(key)))
+                .map(ApiKeyUserCache.CachedUser::toSiteUser);
+    }
+
+    // 작성자 닉네임 표시용, 캐시에 없을 때만 조회한다.
+    public String findNicknameById(long id) {
+        return siteUserCache
+                .get(id, userRepository::findById)
+                .map(SiteUserCache.CachedSiteUser::nickname)
+                .orElse(null);
+    }
+
     public Optional<SiteUser> findById(long id) {
         return userRepository.findById(id);
     }
@@ -55,6 +77,20 @@ public class UserService {
         return user.getApiKey() + " " + genAccessToken(user);
     }
 
+    // 인증용 조회는 primary 에서 한다. replica 가 뒤처져 있으면 방금 가입한 회원을 찾지 못해 401 이 되기 때문이다.
+    // apiKey 재발급은 CustomAuthenticationFilter 에서 요청의 트랜잭션이 시작되기 전에 일어나므로
+    // 여기서 읽기 전용이 아닌 트랜잭션(primary)을 연다. 이미 트랜잭션 안이면 그대로 참여한다.
+    // (REQUIRES_NEW 로 바깥 트랜잭션을 중단시키면 요청 하나가 커넥션을 두 개 잡는다.)
+    private <T> T onPrimary(Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return query.get();
+
+        return new TransactionTemplate(transactionManager).execute(status -> query.get());
+    }
+
+    public boolean needsAccessTokenRefresh(String accessToken) {
+        return authTokenService.needsRefresh(accessToken);
+    }
+
     public SiteUser getUserFromAccessToken(String accessToken) {
         Map<String, Object> payload = authTokenService.payload(accessToken);
 
@@ -1,7 +1,43 @@
 package com.ll.sbbdoc20250109.global.app;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// 정적 메서드로 프로필 / 공통 설정을 확인할 수 있도록 스프링이 값을 채워 준다.
+// 컨텍스트 밖(벤치마크 등)에서는 prod 가 아니고 stack trace 를 남기지 않는 것으로 본다.
+@Configuration
 public class AppConfig {
+
+    private static Environment environment;
+
+    private static boolean serviceExceptionStackTrace;
+
+    @Autowired
+    public void setEnvironment(Environment environment) {
+        AppConfig.environment = environment;
+    }
+
+    @Value("${custom.serviceException.stackTrace}")
+    public void setServiceExceptionStackTrace(boolean serviceExceptionStackTrace) {
+        AppConfig.serviceExceptionStackTrace = serviceExceptionStackTrace;
+    }
+
+    public static boolean isProd() {
+        return environment != null && environment.matchesProfiles("prod");
+    }
+
     public static boolean isNotProd() {
-        return true;
+        return !isProd();
+    }
+
+    // prod 프로필에서는 설정과 관계없이 ServiceException 의 stack trace 를 만들지 않는다.
+    // 컨텍스트가 뜨기 전이나 스프링 없이(단위 테스트, 벤치마크) 만든 ServiceException 도 stack trace 를 만들지 않는다.
+    // (environment 가 없으면 프로필을 알 수 없으므로 설정값이 남아 있어도 false)
+    public static boolean isServiceExceptionStackTrace() {
+        if (environment == null) return false;
+
+        return serviceExceptionStackTrace && isNotProd();
     }
 }
@@ -1,18 +1,25 @@
 package com.ll.sbbdoc20250109.global.aspect;
 
+import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
+import com.ll.sbbdoc20250109.global.metrics.EndpointLatencyRegistry;
 import com.ll.sbbdoc20250109.global.rsData.RsData;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.util.NoSuchElementException;
+
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class ResponseAspect {
     private final HttpServletResponse response;
+    private final EndpointLatencyRegistry endpointLatencyRegistry;
 
     @Around("""
             (
@@ -37,13 +44,35 @@ public class ResponseAspect {
             @annotation(org.springframework.web.bind.annotation.ResponseBody)
             """)
     public Object handleResponse(ProceedingJoinPoint joinPoint) throws Throwable {
-        Object proceed = joinPoint.proceed();
+        long startedAt = System.nanoTime();
+        int status = 500;
 
-        if (proceed instanceof RsData<?>) {
-            RsData<?> rsData = (RsData<?>) proceed;
-            response.setStatus(rsData.getStatusCode());
-        }
+        try {
+            Object proceed = joinPoint.proceed();
 
-        return proceed;
+            if (proceed instanceof RsData<?>) {
+                RsData<?> rsData = (RsData<?>) proceed;
+                status = rsData.getStatusCode();
+                response.setStatus(status);
+            } else if (proceed instanceof ResponseEntity<?> responseEntity) {
+                status = responseEntity.getStatusCode().value();
+            } else {
+                status = response.getStatus();
+            }
+
+            return proceed;
+        } catch (ServiceException e) {
+            status = e.getRsData().getStatusCode();
+            throw e;
+        } catch (NoSuchElementException e) {
+            status = 404;
+            throw e;
+        } finally {
+            endpointLatencyRegistry.record(
+                    ((MethodSignature) joinPoint.getSignature()).getMethod(),
+                    status,
+                    System.nanoTime() - startedAt
+            );
+        }
     }
-}
\ No newline at end of file
+}
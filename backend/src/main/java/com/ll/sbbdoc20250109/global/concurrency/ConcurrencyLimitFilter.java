@@ -0,0 +1,89 @@
+package com.ll.sbbdoc20250109.global.concurrency;
+
+import com.ll.sbbdoc20250109.global.rsData.RsData;
+import com.ll.sbbdoc20250109.standard.util.Ut;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 동시에 처리하는 API 요청 수를 제한한다.
+// 가상 스레드에서는 스레드 수가 동시성을 제한하지 않으므로, 요청 하나가 동시에 잡는 커넥션은 하나라고 보고
+// 이 한도에 맞춰 Hikari 풀 크기를 정한다. (HikariPoolSizer)
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    @Value("${custom.concurrency.enabled}")
+    private boolean enabled;
+
+    @Value("${custom.concurrency.maxConcurrentRequests}")
+    private int maxConcurrentRequests;
+
+    @Value("${custom.concurrency.acquireTimeoutMillis}")
+    private long acquireTimeoutMillis;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(maxConcurrentRequests, true);
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int getInFlightRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    public int getQueuedRequests() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled || !request.getRequestURI().startsWith("/api/")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean acquired;
+
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setContentType("application/json; charset=utf-8");
+            response.setStatus(503);
+            response.getWriter().write(
+                    Ut.json.toString(
+                            new RsData("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                    )
+            );
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+}
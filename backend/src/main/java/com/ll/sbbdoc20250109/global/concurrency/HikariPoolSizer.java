@@ -0,0 +1,38 @@
+package com.ll.sbbdoc20250109.global.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 커넥션 풀 크기 = 동시 요청 한도 + 백그라운드 작업(스케줄러, 캐시 갱신 등)용 여유분
+// 한도 안의 요청은 커넥션을 기다리지 않고, 한도를 넘는 요청은 ConcurrencyLimitFilter 에서 기다린다.
+@Component
+@ConditionalOnProperty(name = "custom.concurrency.enabled", havingValue = "true")
+public class HikariPoolSizer implements BeanPostProcessor {
+
+    private final int maxConcurrentRequests;
+    private final int backgroundConnections;
+
+    public HikariPoolSizer(
+            @Value("${custom.concurrency.maxConcurrentRequests}") int maxConcurrentRequests,
+            @Value("${custom.concurrency.backgroundConnections}") int backgroundConnections
+    ) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.backgroundConnections = backgroundConnections;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            int poolSize = maxConcurrentRequests + backgroundConnections;
+
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setMinimumIdle(poolSize);
+        }
+
+        return bean;
+    }
+
+}
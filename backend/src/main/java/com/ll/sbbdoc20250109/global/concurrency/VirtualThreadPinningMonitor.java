@@ -0,0 +1,141 @@
+package com.ll.sbbdoc20250109.global.concurrency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// JFR jdk.VirtualThreadPinned 이벤트를 구독해 캐리어 스레드를 붙잡은 위치를 스택별로 집계한다.
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    // 스택을 구분할 때 사용하는 상위 프레임 수
+    private static final int STACK_DEPTH = 12;
+
+    public record PinnedStackReport(
+            String stack,
+            long count,
+            double totalMs,
+            double maxMs,
+            String lastThread
+    ) {}
+
+    public record Report(
+            boolean enabled,
+            long eventCount,
+            long droppedStackCount,
+            List<PinnedStackReport> stacks
+    ) {}
+
+    private static class PinnedStack {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile String lastThread;
+    }
+
+    @Value("${custom.virtualThreadPinning.enabled}")
+    private boolean enabled;
+
+    @Value("${custom.virtualThreadPinning.thresholdMillis}")
+    private long thresholdMillis;
+
+    @Value("${custom.virtualThreadPinning.maxStacks}")
+    private int maxStacks;
+
+    private final Map<String, PinnedStack> stacks = new ConcurrentHashMap<>();
+    private final LongAdder eventCount = new LongAdder();
+    private final LongAdder droppedStackCount = new LongAdder();
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(EVENT_NAME)
+                .withThreshold(Duration.ofMillis(thresholdMillis))
+                .withStackTrace();
+        recordingStream.onEvent(EVENT_NAME, this::record);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) recordingStream.close();
+    }
+
+    public Report report() {
+        List<PinnedStackReport> stackReports = stacks.entrySet()
+                .stream()
+                .map(entry -> new PinnedStackReport(
+                        entry.getKey(),
+                        entry.getValue().count.sum(),
+                        entry.getValue().totalNanos.sum() / 1_000_000.0,
+                        entry.getValue().maxNanos.get() / 1_000_000.0,
+                        entry.getValue().lastThread
+                ))
+                .sorted(Comparator.comparingDouble(PinnedStackReport::totalMs).reversed())
+                .toList();
+
+        return new Report(enabled, eventCount.sum(), droppedStackCount.sum(), stackReports);
+    }
+
+    public void reset() {
+        stacks.clear();
+        eventCount.reset();
+        droppedStackCount.reset();
+    }
+
+    private void record(RecordedEvent event) {
+        eventCount.increment();
+
+        String stack = summarize(event.getStackTrace());
+        PinnedStack pinnedStack = stacks.get(stack);
+
+        if (pinnedStack == null) {
+            // 서로 다른 스택이 너무 많으면 새 스택은 개수만 센다.
+            if (stacks.size() >= maxStacks) {
+                droppedStackCount.increment();
+                return;
+            }
+
+            pinnedStack = stacks.computeIfAbsent(stack, k -> new PinnedStack());
+        }
+
+        long nanos = event.getDuration().toNanos();
+
+        pinnedStack.count.increment();
+        pinnedStack.totalNanos.add(nanos);
+        pinnedStack.maxNanos.accumulateAndGet(nanos, Math::max);
+        pinnedStack.lastThread = event.getThread() == null ? null : event.getThread().getJavaName();
+    }
+
+    private static String summarize(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "(스택 없음)";
+
+        return stackTrace.getFrames()
+                .stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(STACK_DEPTH)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+}
@@ -1,18 +1,25 @@
 package com.ll.sbbdoc20250109.global.exceptions;
 
 
+import com.ll.sbbdoc20250109.global.app.AppConfig;
 import com.ll.sbbdoc20250109.global.rsData.RsData;
 
+// 401 / 403 / 404 같은 예상된 실패를 알리는 용도라 기본적으로 stack trace 를 만들지 않는다.
+// 디버깅이 필요하면 custom.serviceException.stackTrace 를 켠다. (prod 프로필 제외)
 public class ServiceException extends RuntimeException {
     private final String resultCode;
     private final String msg;
 
     public ServiceException(String resultCode, String msg) {
-        super(resultCode + " : " + msg);
+        super(resultCode + " : " + msg, null, false, AppConfig.isServiceExceptionStackTrace());
         this.resultCode = resultCode;
         this.msg = msg;
     }
 
+    public String getResultCode() {
+        return resultCode;
+    }
+
     public RsData<Void> getRsData() {
         return new RsData<>(resultCode, msg);
     }
@@ -0,0 +1,92 @@
+package com.ll.sbbdoc20250109.global.globalExceptionHandler;
+
+import com.ll.sbbdoc20250109.global.app.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 예외 응답을 resultCode 별로 집계한다.
+// 같은 resultCode 의 로그는 intervalSeconds 에 한 줄만 남기고, 그 사이에 생략한 건수를 함께 적는다.
+@Slf4j
+@Component
+public class ErrorLogAggregator {
+
+    public record Report(long intervalSeconds, List<Item> items) {}
+
+    public record Item(String resultCode, long count, String lastMessage) {}
+
+    private static class Counter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicLong lastLoggedAt = new AtomicLong();
+        private volatile String lastMessage;
+    }
+
+    @Value("${custom.errorLog.intervalSeconds}")
+    private long intervalSeconds;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public void record(String resultCode, Throwable ex) {
+        Counter counter = counters.computeIfAbsent(resultCode, key -> new Counter());
+
+        counter.count.increment();
+        counter.lastMessage = ex.getMessage();
+
+        long now = System.currentTimeMillis();
+        long lastLoggedAt = counter.lastLoggedAt.get();
+
+        if (now - lastLoggedAt < intervalSeconds * 1000 || !counter.lastLoggedAt.compareAndSet(lastLoggedAt, now)) {
+            counter.suppressed.increment();
+            return;
+        }
+
+        long suppressed = counter.suppressed.sumThenReset();
+
+        // prod 가 아니면 stack trace 도 남긴다. (ServiceException 은 설정을 켠 경우에만 stack trace 가 있다.)
+        if (AppConfig.isNotProd()) {
+            log.warn("[{}] {} (생략 {}건)", resultCode, ex.getMessage(), suppressed, ex);
+        } else {
+            log.warn("[{}] {} (생략 {}건)", resultCode, ex.getMessage(), suppressed);
+        }
+    }
+
+    public Report report() {
+        List<Item> items = counters.entrySet()
+                .stream()
+                .map(e -> new Item(e.getKey(), e.getValue().count.sum(), e.getValue().lastMessage))
+                .sorted(Comparator.comparing(Item::resultCode))
+                .toList();
+
+        return new Report(intervalSeconds, items);
+    }
+
+    public String prometheus() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("# HELP app_errors_total Error responses by resultCode.\n");
+        sb.append("# TYPE app_errors_total counter\n");
+
+        for (Item item : report().items()) {
+            sb.append("app_errors_total{result_code=\"")
+                    .append(item.resultCode().replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append("\"} ")
+                    .append(item.count())
+                    .append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+}
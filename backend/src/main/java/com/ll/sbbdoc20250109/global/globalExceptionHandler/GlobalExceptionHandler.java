@@ -1,6 +1,5 @@
 package com.ll.sbbdoc20250109.global.globalExceptionHandler;
 
-import com.ll.sbbdoc20250109.global.app.AppConfig;
 import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
 import com.ll.sbbdoc20250109.global.rsData.RsData;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +19,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorLogAggregator errorLogAggregator;
+
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<RsData<Void>> handle(NoHandlerFoundException ex) {
 
-        if (AppConfig.isNotProd()) ex.printStackTrace();
+        errorLogAggregator.record("404-1", ex);
 
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
@@ -36,7 +37,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<RsData<Void>> handle(NoSuchElementException ex) {
-        if (AppConfig.isNotProd()) ex.printStackTrace();
+        errorLogAggregator.record("404-1", ex);
 
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
@@ -48,7 +49,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<RsData<Void>> handle(MethodArgumentNotValidException ex) {
-        if (AppConfig.isNotProd()) ex.printStackTrace();
+        errorLogAggregator.record("400-1", ex);
 
         String message = ex.getBindingResult()
                 .getAllErrors()
@@ -69,7 +70,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ServiceException.class)
     public ResponseEntity<RsData<Void>> handle(ServiceException ex) {
-        if (AppConfig.isNotProd()) ex.printStackTrace();
+        errorLogAggregator.record(ex.getResultCode(), ex);
 
         RsData<Void> rsData = ex.getRsData();
 
@@ -0,0 +1,83 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import com.ll.sbbdoc20250109.domain.base.PooledSequenceGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// IDENTITY 로 생성된 기존 데이터(db_dev 등)가 있으면 공유 시퀀스를 기존 최대 id 뒤로 옮긴다.
+// (H2 의 information_schema.sequences 기준)
+// EntityManagerFactory(스키마 갱신) 이후, 웹 서버가 요청을 받기 전에 실행된다.
+@Component
+@RequiredArgsConstructor
+public class IdSequenceMigration implements InitializingBean {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${custom.id.allocationSize}")
+    private int allocationSize;
+
+    @Override
+    public void afterPropertiesSet() {
+        List<Map<String, Object>> sequences = jdbcTemplate.queryForList(
+                "select base_value, increment from information_schema.sequences where lower(sequence_name) = ?",
+                PooledSequenceGenerator.SEQUENCE_NAME
+        );
+
+        if (sequences.isEmpty()) return;
+
+        long baseValue = ((Number) sequences.getFirst().get("BASE_VALUE")).longValue();
+        long increment = ((Number) sequences.getFirst().get("INCREMENT")).longValue();
+
+        // allocationSize 를 바꾼 경우 기존 시퀀스의 증가폭도 맞춘다.
+        if (increment != allocationSize) {
+            jdbcTemplate.execute(
+                    "alter sequence %s increment by %d".formatted(PooledSequenceGenerator.SEQUENCE_NAME, allocationSize)
+            );
+        }
+
+        long maxId = idColumnsByTable()
+                .entrySet()
+                .stream()
+                .mapToLong(e -> findMaxId(e.getKey(), e.getValue()))
+                .max()
+                .orElse(0);
+
+        if (baseValue > maxId) return;
+
+        jdbcTemplate.execute(
+                "alter sequence %s restart with %d".formatted(PooledSequenceGenerator.SEQUENCE_NAME, maxId + 1)
+        );
+    }
+
+    // 테이블 / id 컬럼 이름은 naming strategy 를 거친 실제 매핑에서 가져온다.
+    private Map<String, String> idColumnsByTable() {
+        Map<String, String> idColumnsByTable = new LinkedHashMap<>();
+
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (persister instanceof AbstractEntityPersister entityPersister)
+                        idColumnsByTable.putIfAbsent(entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0]);
+                });
+
+        return idColumnsByTable;
+    }
+
+    private long findMaxId(String tableName, String idColumnName) {
+        Long maxId = jdbcTemplate.queryForObject("select max(%s) from %s".formatted(idColumnName, tableName), Long.class);
+
+        return maxId == null ? 0 : maxId;
+    }
+
+}
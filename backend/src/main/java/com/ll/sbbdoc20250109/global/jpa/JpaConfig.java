@@ -0,0 +1,30 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import com.ll.sbbdoc20250109.domain.base.PooledSequenceGenerator;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // id 생성기가 Hibernate 설정에서 allocationSize 를 읽을 수 있도록 넣어 둔다. (PooledSequenceGenerator)
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationSizeCustomizer(
+            @Value("${custom.id.allocationSize}") int allocationSize
+    ) {
+        return hibernateProperties -> hibernateProperties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+    }
+
+    // 요청별 SQL 문 개수 / DB 시간 집계 (QueryBudgetFilter)
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingSessionEventListener.class.getName());
+        };
+    }
+
+}
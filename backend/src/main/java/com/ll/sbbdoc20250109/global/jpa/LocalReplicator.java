@@ -0,0 +1,118 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 로컬 / 테스트용 복제기 - H2 primary 의 테이블을 주기적으로 replica(H2)에 통째로 복사한다.
+// 복사는 replica 의 한 트랜잭션 안에서 이루어지므로 읽는 쪽은 이전 스냅샷을 보다가 커밋 이후 새 스냅샷을 본다.
+// 데이터가 많으면 느리므로 운영에서는 DB 자체의 복제를 사용한다.
+public class LocalReplicator {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public LocalReplicator(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    @Scheduled(fixedDelayString = "${custom.datasource.replica.localReplicator.intervalMillis}")
+    public void replicate() throws SQLException {
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            List<String> tables = tables(source);
+
+            if (!tables(target).containsAll(tables)) copySchema(source, target);
+
+            target.setAutoCommit(false);
+
+            execute(target, "set referential_integrity false");
+
+            try {
+                for (String table : tables) copyTable(source, target, table);
+
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                execute(target, "set referential_integrity true");
+            }
+
+            if (!source.getAutoCommit()) source.rollback();
+        }
+    }
+
+    private void copySchema(Connection source, Connection target) throws SQLException {
+        List<String> statements = new ArrayList<>();
+
+        try (Statement statement = source.createStatement(); ResultSet resultSet = statement.executeQuery("script nodata nopasswords nosettings")) {
+            while (resultSet.next()) {
+                String sql = resultSet.getString(1);
+
+                if (sql.startsWith("--") || sql.toUpperCase().startsWith("CREATE USER")) continue;
+
+                statements.add(sql);
+            }
+        }
+
+        execute(target, "drop all objects");
+
+        for (String sql : statements) execute(target, sql);
+
+        if (!target.getAutoCommit()) target.commit();
+    }
+
+    private void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quotedTable = "\"" + table + "\"";
+
+        execute(target, "delete from " + quotedTable);
+
+        try (Statement select = source.createStatement(); ResultSet rows = select.executeQuery("select * from " + quotedTable)) {
+            int columnCount = rows.getMetaData().getColumnCount();
+            String placeholders = String.join(", ", Collections.nCopies(columnCount, "?"));
+
+            try (PreparedStatement insert = target.prepareStatement("insert into " + quotedTable + " values (" + placeholders + ")")) {
+                int batched = 0;
+
+                while (rows.next()) {
+                    for (int i = 1; i <= columnCount; i++) insert.setObject(i, rows.getObject(i));
+
+                    insert.addBatch();
+
+                    if (++batched % BATCH_SIZE == 0) insert.executeBatch();
+                }
+
+                if (batched % BATCH_SIZE != 0) insert.executeBatch();
+            }
+        }
+    }
+
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "select table_name from information_schema.tables where table_schema = 'PUBLIC' and table_type = 'BASE TABLE'"
+                )
+        ) {
+            while (resultSet.next()) tables.add(resultSet.getString(1));
+        }
+
+        return tables;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 요청 한 번에 실행할 수 있는 SQL 문 개수 (인증 처리, 응답 직렬화 중 지연 로딩 포함)
+// 지정하지 않으면 custom.queryBudget.defaultMaxStatements 를 쓰고, 음수면 검사하지 않는다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
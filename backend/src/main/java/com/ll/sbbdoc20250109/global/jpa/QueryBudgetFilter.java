@@ -0,0 +1,100 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+// 요청마다 SQL 문 개수 / DB 시간을 집계하고 엔드포인트별 한도를 넘거나 N+1 이 의심되면 경고한다.
+// 테스트 프로필에서는 custom.queryBudget.failOnExceed 로 예외를 던져 테스트를 실패시킨다.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    @Value("${custom.queryBudget.defaultMaxStatements}")
+    private int defaultMaxStatements;
+
+    @Value("${custom.queryBudget.repeatedSelectThreshold}")
+    private int repeatedSelectThreshold;
+
+    @Value("${custom.queryBudget.failOnExceed}")
+    private boolean failOnExceed;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!request.getRequestURI().startsWith("/api/")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestQueryStats stats = RequestQueryStats.begin();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+        }
+
+        stats.assign(endpoint(request), budget(request));
+        request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+
+        check(stats);
+    }
+
+    private void check(RequestQueryStats stats) {
+        if (stats.getBudget() < 0) return;
+
+        List<RequestQueryStats.RepeatedStatement> repeatedSelects = stats.repeatedSelects(repeatedSelectThreshold);
+
+        if (!stats.isOverBudget() && repeatedSelects.isEmpty()) return;
+
+        String message = "%s : SQL %d회 (한도 %d회), DB %.1fms".formatted(
+                stats.getEndpoint(),
+                stats.getStatementCount(),
+                stats.getBudget(),
+                stats.getDbMillis()
+        );
+
+        if (!repeatedSelects.isEmpty()) {
+            StringBuilder sb = new StringBuilder(message).append(", N+1 의심");
+
+            repeatedSelects.forEach(repeated -> sb.append("\n  ").append(repeated.count()).append("회 : ").append(repeated.sql()));
+
+            message = sb.toString();
+        }
+
+        if (failOnExceed) throw new IllegalStateException(message);
+
+        log.warn(message);
+    }
+
+    // 핸들러가 정해지기 전(필터 단계)에는 URI 를 그대로 쓴다. (StatementTimingDataSource 에서도 사용)
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private int budget(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+
+            if (queryBudget != null) return queryBudget.value();
+        }
+
+        return defaultMaxStatements;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 준비하는 모든 SQL 을 현재 요청의 통계에 기록하고,
+// select 가 아닌 SQL 은 현재 트랜잭션이 쓰기를 했다고 표시한다. (TransactionWriteMarker)
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        boolean select = isSelect(sql);
+
+        RequestQueryStats stats = RequestQueryStats.current();
+
+        if (stats != null) stats.statementPrepared(sql, select);
+
+        if (!select) TransactionWriteMarker.markWritten();
+
+        return sql;
+    }
+
+    // hibernate.use_sql_comments 가 켜져 있으면 SQL 앞에 /* ... */ 주석이 붙으므로 주석과 공백을 건너뛰고 본다.
+    static boolean isSelect(String sql) {
+        int i = 0;
+        int length = sql.length();
+
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+
+                if (end < 0) return false;
+
+                i = end + 2;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i + 2);
+
+                if (end < 0) return false;
+
+                i = end + 1;
+            } else {
+                break;
+            }
+        }
+
+        return sql.regionMatches(true, i, "select", 0, 6);
+    }
+
+}
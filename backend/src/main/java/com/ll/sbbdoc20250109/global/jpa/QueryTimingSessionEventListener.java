@@ -0,0 +1,33 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import org.hibernate.SessionEventListener;
+
+// 세션마다 Hibernate 가 생성한다. (hibernate.session.events.auto)
+// JDBC 실행 시간을 현재 요청의 통계에 더한다.
+public class QueryTimingSessionEventListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestQueryStats stats = RequestQueryStats.current();
+
+        if (stats != null) stats.executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats stats = RequestQueryStats.current();
+
+        if (stats != null) stats.executionEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+
+}
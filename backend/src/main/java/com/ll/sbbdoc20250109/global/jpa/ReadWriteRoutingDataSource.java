@@ -0,0 +1,67 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import com.ll.sbbdoc20250109.global.security.CustomAuthenticationFilter;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// 읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보낸다.
+// 트랜잭션 시작 이후 첫 SQL 에서 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return Target.PRIMARY;
+        }
+
+        if (!replicaLagMonitor.isReplicaUsable()) return Target.PRIMARY;
+
+        if (!readYourWritesTracker.isEmpty()) {
+            String clientKey = currentClientKey();
+
+            if (clientKey != null && readYourWritesTracker.isWithinWindow(clientKey)) return Target.PRIMARY;
+        }
+
+        return Target.REPLICA;
+    }
+
+    // 실제로 쓰기 SQL 을 실행하고 커밋된 경우에만 read-your-writes 기간을 시작한다.
+    // (로그인처럼 primary 로 보내려고 쓰기 트랜잭션을 연 경우는 제외)
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        String clientKey = currentClientKey();
+
+        if (clientKey == null) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (TransactionWriteMarker.hasWritten()) readYourWritesTracker.markWritten(clientKey);
+            }
+        });
+    }
+
+    private static String currentClientKey() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return null;
+
+        return CustomAuthenticationFilter.getApiKey(attributes.getRequest());
+    }
+
+}
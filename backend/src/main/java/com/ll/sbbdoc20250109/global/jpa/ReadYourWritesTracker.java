@@ -0,0 +1,43 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 쓰기 트랜잭션을 커밋한 클라이언트(apiKey)는 일정 시간 동안 읽기도 primary 에서 하도록 기록한다.
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Map<String, Long> writtenUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void markWritten(String clientKey) {
+        long now = System.currentTimeMillis();
+
+        writtenUntil.put(clientKey, now + windowMillis);
+
+        if (writtenUntil.size() > PURGE_THRESHOLD) writtenUntil.values().removeIf(until -> until < now);
+    }
+
+    public boolean isWithinWindow(String clientKey) {
+        Long until = writtenUntil.get(clientKey);
+
+        if (until == null) return false;
+
+        if (until < System.currentTimeMillis()) {
+            writtenUntil.remove(clientKey, until);
+            return false;
+        }
+
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return writtenUntil.isEmpty();
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// primary 의 replica_heartbeat 에 현재 시각을 기록하고 replica 에 복제된 값과 비교해 지연 시간을 잰다.
+// 지연 시간을 모르거나 허용치를 넘으면 읽기 전용 트랜잭션도 primary 로 보낸다.
+public class ReplicaLagMonitor {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long maxLagMillis;
+
+    // -1 : 아직 모름 / replica 오류
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMillis) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @PostConstruct
+    void init() throws SQLException {
+        try (Connection connection = primary.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists replica_heartbeat (id int primary key, beat_at bigint not null)");
+
+            if (!connection.getAutoCommit()) connection.commit();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.datasource.replica.heartbeatIntervalMillis}")
+    public void check() {
+        try {
+            beat(System.currentTimeMillis());
+        } catch (SQLException e) {
+            lagMillis = -1;
+            return;
+        }
+
+        try {
+            Long beatAt = replicatedBeatAt();
+
+            lagMillis = beatAt == null ? -1 : Math.max(0, System.currentTimeMillis() - beatAt);
+        } catch (SQLException e) {
+            lagMillis = -1;
+        }
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public boolean isReplicaUsable() {
+        long lag = lagMillis;
+
+        return lag >= 0 && lag <= maxLagMillis;
+    }
+
+    private void beat(long now) throws SQLException {
+        try (Connection connection = primary.getConnection()) {
+            try (PreparedStatement update = connection.prepareStatement("update replica_heartbeat set beat_at = ? where id = 1")) {
+                update.setLong(1, now);
+
+                if (update.executeUpdate() == 0) {
+                    try (PreparedStatement insert = connection.prepareStatement("insert into replica_heartbeat (id, beat_at) values (1, ?)")) {
+                        insert.setLong(1, now);
+                        insert.executeUpdate();
+                    }
+                }
+            }
+
+            if (!connection.getAutoCommit()) connection.commit();
+        }
+    }
+
+    private Long replicatedBeatAt() throws SQLException {
+        try (
+                Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("select beat_at from replica_heartbeat where id = 1")
+        ) {
+            return resultSet.next() ? resultSet.getLong(1) : null;
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 요청 한 건 동안 실행된 SQL 통계
+// 요청 스레드에서만 접근하므로 동기화하지 않는다.
+@Getter
+public class RequestQueryStats {
+
+    public static final String ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    public record RepeatedStatement(String sql, int count) {}
+
+    private String endpoint;
+    private int budget;
+    private int statementCount;
+    private int executionCount;
+    private long dbNanos;
+
+    @Getter(AccessLevel.NONE)
+    private long executionStartedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> selectCounts = new HashMap<>();
+
+    public static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    // select 여부는 주석을 건너뛰고 판단한 값을 받는다. (QueryCountStatementInspector.isSelect)
+    void statementPrepared(String sql, boolean select) {
+        statementCount++;
+
+        if (select) selectCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void executionStarted() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    void executionEnded() {
+        executionCount++;
+        dbNanos += System.nanoTime() - executionStartedAt;
+    }
+
+    void assign(String endpoint, int budget) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+    }
+
+    public double getDbMillis() {
+        return dbNanos / 1_000_000.0;
+    }
+
+    public boolean isOverBudget() {
+        return budget >= 0 && statementCount > budget;
+    }
+
+    // 같은 select 문이 threshold 번 이상 실행되었다면 N+1 을 의심한다.
+    public List<RepeatedStatement> repeatedSelects(int threshold) {
+        return selectCounts.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .map(entry -> new RepeatedStatement(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+}
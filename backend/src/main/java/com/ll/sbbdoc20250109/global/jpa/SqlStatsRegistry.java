@@ -0,0 +1,186 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// SQL 을 리터럴 / IN 목록을 걷어낸 지문(fingerprint) 단위로 모아 실행 횟수, 시간, 행 수를 집계하고
+// custom.sqlStats.slowQueryMillis 를 넘은 문장은 바인드 값, 호출한 엔드포인트와 함께 로그로 남긴다.
+// 실행 정보는 StatementTimingDataSource 가 넘겨준다.
+@Slf4j
+@Component
+public class SqlStatsRegistry {
+
+    public enum Sort {
+        total,
+        count,
+        avg,
+        max,
+        rows
+    }
+
+    public record Row(
+            String fingerprint,
+            long count,
+            double totalMillis,
+            double avgMillis,
+            double maxMillis,
+            long rows
+    ) {}
+
+    public record Report(long slowQueryMillis, int fingerprintCount, List<Row> top) {}
+
+    // 지문 개수가 maxFingerprints 에 이르면 새 지문은 여기에 모은다.
+    static final String OTHER_FINGERPRINT = "(other)";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static class SqlStats {
+        private final String fingerprint;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder rows = new LongAdder();
+
+        private SqlStats(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private Row toRow() {
+            long count = this.count.sum();
+            long totalNanos = this.totalNanos.sum();
+
+            return new Row(
+                    fingerprint,
+                    count,
+                    totalNanos / 1_000_000.0,
+                    count == 0 ? 0 : totalNanos / 1_000_000.0 / count,
+                    maxNanos.get() / 1_000_000.0,
+                    rows.sum()
+            );
+        }
+    }
+
+    @Value("${custom.sqlStats.slowQueryMillis}")
+    private long slowQueryMillis;
+
+    @Value("${custom.sqlStats.maxFingerprints}")
+    private int maxFingerprints;
+
+    @Value("${custom.sqlStats.maxBindLength}")
+    private int maxBindLength;
+
+    // Hibernate 가 만드는 SQL 문자열 종류는 많지 않으므로 원문 -> 통계를 먼저 찾아 지문 계산을 건너뛴다.
+    private final Map<String, SqlStats> statsBySql = new ConcurrentHashMap<>();
+    private final Map<String, SqlStats> statsByFingerprint = new ConcurrentHashMap<>();
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowQueryMillis * 1_000_000;
+    }
+
+    // binds 는 느린 문장일 때만 채워진다.
+    public void record(String sql, List<Object> binds, String endpoint, long elapsedNanos, long rows) {
+        SqlStats stats = statsBySql.get(sql);
+
+        if (stats == null) stats = register(sql);
+
+        stats.count.increment();
+        stats.totalNanos.add(elapsedNanos);
+        stats.maxNanos.accumulate(elapsedNanos);
+        stats.rows.add(rows);
+
+        if (isSlow(elapsedNanos)) {
+            log.warn(
+                    "slow query {}ms [{}] rows={}\n  {}\n  binds={}",
+                    "%.1f".formatted(elapsedNanos / 1_000_000.0),
+                    endpoint,
+                    rows,
+                    sql,
+                    formatBinds(binds)
+            );
+        }
+    }
+
+    public Report report(Sort sort, int limit) {
+        Comparator<Row> comparator = switch (sort) {
+            case total -> Comparator.comparingDouble(Row::totalMillis);
+            case count -> Comparator.comparingLong(Row::count);
+            case avg -> Comparator.comparingDouble(Row::avgMillis);
+            case max -> Comparator.comparingDouble(Row::maxMillis);
+            case rows -> Comparator.comparingLong(Row::rows);
+        };
+
+        List<Row> top = statsByFingerprint.values()
+                .stream()
+                .map(SqlStats::toRow)
+                .sorted(comparator.reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+
+        return new Report(slowQueryMillis, statsByFingerprint.size(), top);
+    }
+
+    public void reset() {
+        statsBySql.clear();
+        statsByFingerprint.clear();
+    }
+
+    private SqlStats register(String sql) {
+        String fingerprint = fingerprint(sql);
+
+        if (statsByFingerprint.size() >= maxFingerprints && !statsByFingerprint.containsKey(fingerprint))
+            fingerprint = OTHER_FINGERPRINT;
+
+        SqlStats stats = statsByFingerprint.computeIfAbsent(fingerprint, SqlStats::new);
+
+        // 원문 캐시도 지문 개수와 같은 정도로만 둔다. (리터럴이 박힌 SQL 이 계속 들어오는 경우)
+        if (statsBySql.size() < maxFingerprints * 4) statsBySql.put(sql, stats);
+
+        return stats;
+    }
+
+    static String fingerprint(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("in (?)");
+
+        return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+    }
+
+    private String formatBinds(List<Object> binds) {
+        if (binds == null || binds.isEmpty()) return "[]";
+
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < binds.size(); i++) {
+            if (i > 0) sb.append(", ");
+
+            sb.append(formatBind(binds.get(i)));
+        }
+
+        return sb.append(']').toString();
+    }
+
+    private String formatBind(Object bind) {
+        if (bind == null) return "null";
+        if (bind instanceof byte[] bytes) return "<%d bytes>".formatted(bytes.length);
+
+        String value = bind.toString();
+
+        if (value.length() > maxBindLength) value = value.substring(0, maxBindLength) + "...";
+
+        return bind instanceof CharSequence ? "'" + value + "'" : value;
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 커넥션 풀을 감싸 JDBC 문장마다 실행 시간, 결과 행 수를 재고 SqlStatsRegistry 에 넘긴다.
+// org.hibernate.SQL / jdbc.bind 로그를 끈 상태에서도 느린 쿼리의 바인드 값을 볼 수 있다.
+// Connection / Statement 는 문장당 몇 번만 불리므로 JDK 프록시로 감싸고,
+// 행마다 불리는 ResultSet 은 RowCountingResultSet 으로 감싼다.
+// 풀 단위로 감싸므로 replica 라우팅을 켜도 문장 하나는 한 번만 기록된다. (StatementTimingDataSourceWrapper)
+public class StatementTimingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    public StatementTimingDataSource(DataSource targetDataSource, SqlStatsRegistry sqlStatsRegistry) {
+        super(targetDataSource);
+        this.sqlStatsRegistry = sqlStatsRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    // 감싼 풀이 애플리케이션 종료 시 닫히도록 close 를 넘긴다.
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+
+            String name = method.getName();
+
+            // prepareStatement, prepareCall, createStatement
+            if (result instanceof Statement statement && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+
+            return result;
+        });
+    }
+
+    // 문장 실행 한 번, select 는 ResultSet 을 닫을 때까지 읽은 행 수를 센다.
+    private class Execution {
+        private final String sql;
+        private final List<Object> binds;
+        private final String endpoint;
+        private final long elapsedNanos;
+        private long rows;
+        private RowCountingResultSet resultSet;
+        private boolean recorded;
+
+        private Execution(String sql, List<Object> binds, String endpoint, long elapsedNanos) {
+            this.sql = sql;
+            this.binds = binds;
+            this.endpoint = endpoint;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private void record() {
+            if (recorded) return;
+
+            recorded = true;
+
+            if (resultSet != null) rows = resultSet.getRowCount();
+
+            sqlStatsRegistry.record(sql, binds, endpoint, elapsedNanos, rows);
+        }
+    }
+
+    // Statement 는 한 스레드에서만 쓰이므로 동기화하지 않는다.
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String sql;
+        private final Map<Integer, Object> binds = new TreeMap<>();
+        private Execution pending;
+
+        private StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("execute")) return execute(method, args);
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                binds.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                binds.clear();
+            } else if (name.equals("close")) {
+                recordPending();
+            }
+
+            return StatementTimingDataSource.invoke(statement, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            recordPending();
+
+            String executedSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+
+            long startedAt = System.nanoTime();
+            Object result = StatementTimingDataSource.invoke(statement, method, args);
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            // 바인드 값은 느린 문장일 때만 복사한다.
+            List<Object> bindValues = sqlStatsRegistry.isSlow(elapsedNanos) ? new ArrayList<>(binds.values()) : null;
+
+            Execution execution = new Execution(executedSql == null ? "" : executedSql, bindValues, currentEndpoint(), elapsedNanos);
+
+            if (result instanceof ResultSet resultSet) {
+                execution.resultSet = new RowCountingResultSet(resultSet, execution::record);
+                pending = execution;
+
+                return execution.resultSet;
+            }
+
+            execution.rows = updatedRows(result);
+            execution.record();
+
+            return result;
+        }
+
+        private long updatedRows(Object result) throws SQLException {
+            return switch (result) {
+                case Integer count -> Math.max(0, count);
+                case Long count -> Math.max(0, count);
+                case int[] counts -> {
+                    long sum = 0;
+                    for (int count : counts) sum += Math.max(0, count);
+                    yield sum;
+                }
+                case long[] counts -> {
+                    long sum = 0;
+                    for (long count : counts) sum += Math.max(0, count);
+                    yield sum;
+                }
+                case Boolean hasResultSet when !hasResultSet -> Math.max(0, statement.getUpdateCount());
+                case null, default -> 0;
+            };
+        }
+
+        private void recordPending() {
+            if (pending == null) return;
+
+            pending.record();
+            pending = null;
+        }
+    }
+
+    private static String currentEndpoint() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return "-";
+
+        HttpServletRequest request = attributes.getRequest();
+
+        return QueryBudgetFilter.endpoint(request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementTimingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 커넥션 풀(HikariDataSource) 빈을 StatementTimingDataSource 로 감싼다.
+// 풀 설정(HikariPoolSizer, @ConfigurationProperties)은 초기화 전에 끝나므로 초기화 후에 감싼다.
+@Component
+@ConditionalOnProperty(name = "custom.sqlStats.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class StatementTimingDataSourceWrapper implements BeanPostProcessor {
+
+    // BeanPostProcessor 는 먼저 만들어지므로 registry 는 필요할 때 가져온다.
+    private final ObjectProvider<SqlStatsRegistry> sqlStatsRegistry;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource)
+            return new StatementTimingDataSource(dataSource, sqlStatsRegistry.getObject());
+
+        return bean;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 현재 트랜잭션에서 select 외의 SQL(insert / update / delete)을 실행했는지 기록한다.
+// QueryCountStatementInspector 가 표시하고 ReadWriteRoutingDataSource 가 커밋 후에 확인한다.
+// 표시는 트랜잭션이 끝나면(afterCompletion) 지워진다.
+final class TransactionWriteMarker {
+
+    private static final Object RESOURCE_KEY = TransactionWriteMarker.class;
+
+    private TransactionWriteMarker() {
+    }
+
+    static void markWritten() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        if (TransactionSynchronizationManager.hasResource(RESOURCE_KEY)) return;
+
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+            }
+        });
+    }
+
+    static boolean hasWritten() {
+        return TransactionSynchronizationManager.hasResource(RESOURCE_KEY);
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.ll.sbbdoc20250109.global.metrics;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+// 컨트롤러 메서드 / 응답 상태 코드별 응답 시간 히스토그램
+// 메서드와 상태 코드별 히스토그램은 처음 한 번만 만들고 이후 기록은 객체를 생성하지 않는다.
+@Component
+public class EndpointLatencyRegistry {
+
+    private static final int MAX_STATUS = 599;
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    public record StatusReport(
+            int status,
+            long count,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs
+    ) {}
+
+    public record EndpointReport(
+            String endpoint,
+            String handler,
+            long count,
+            double throughputPerSecond,
+            double clientErrorRate,
+            double serverErrorRate,
+            List<StatusReport> statuses
+    ) {}
+
+    public record Report(
+            long startedAt,
+            double elapsedSeconds,
+            List<EndpointReport> endpoints
+    ) {}
+
+    // Prometheus 출력용: 레이블과 그 시계열의 스냅샷
+    private record Series(String labels, LatencyHistogram.Snapshot snapshot) {}
+
+    private static class EndpointMetrics {
+        private final String endpoint;
+        private final String handler;
+        private final AtomicReferenceArray<LatencyHistogram> byStatus = new AtomicReferenceArray<>(MAX_STATUS + 1);
+
+        private EndpointMetrics(String endpoint, String handler) {
+            this.endpoint = endpoint;
+            this.handler = handler;
+        }
+
+        private LatencyHistogram histogram(int status) {
+            LatencyHistogram histogram = byStatus.get(status);
+
+            if (histogram != null) return histogram;
+
+            byStatus.compareAndSet(status, null, new LatencyHistogram());
+
+            return byStatus.get(status);
+        }
+    }
+
+    private final Map<Method, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    private volatile long startedAt = System.currentTimeMillis();
+
+    public void record(Method method, int status, long elapsedNanos) {
+        EndpointMetrics metrics = endpoints.get(method);
+
+        if (metrics == null) metrics = endpoints.computeIfAbsent(method, EndpointLatencyRegistry::createMetrics);
+
+        if (status < 100 || status > MAX_STATUS) status = 500;
+
+        metrics.histogram(status).record(elapsedNanos / 1000);
+    }
+
+    public void reset() {
+        endpoints.clear();
+        startedAt = System.currentTimeMillis();
+    }
+
+    public Report report() {
+        long startedAt = this.startedAt;
+        double elapsedSeconds = Math.max(0.001, (System.currentTimeMillis() - startedAt) / 1000.0);
+
+        List<EndpointReport> endpointReports = new ArrayList<>();
+
+        for (EndpointMetrics metrics : endpoints.values()) {
+            List<StatusReport> statusReports = new ArrayList<>();
+            long count = 0;
+            long clientErrorCount = 0;
+            long serverErrorCount = 0;
+
+            for (int status = 0; status <= MAX_STATUS; status++) {
+                LatencyHistogram histogram = metrics.byStatus.get(status);
+
+                if (histogram == null) continue;
+
+                LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+                count += snapshot.count();
+
+                if (status >= 500) serverErrorCount += snapshot.count();
+                else if (status >= 400) clientErrorCount += snapshot.count();
+
+                statusReports.add(new StatusReport(
+                        status,
+                        snapshot.count(),
+                        snapshot.meanMicros() / 1000,
+                        snapshot.percentileMicros(QUANTILES[0]) / 1000.0,
+                        snapshot.percentileMicros(QUANTILES[1]) / 1000.0,
+                        snapshot.percentileMicros(QUANTILES[2]) / 1000.0,
+                        snapshot.percentileMicros(QUANTILES[3]) / 1000.0,
+                        snapshot.maxMicros() / 1000.0
+                ));
+            }
+
+            endpointReports.add(new EndpointReport(
+                    metrics.endpoint,
+                    metrics.handler,
+                    count,
+                    count / elapsedSeconds,
+                    count == 0 ? 0 : (double) clientErrorCount / count,
+                    count == 0 ? 0 : (double) serverErrorCount / count,
+                    statusReports
+            ));
+        }
+
+        endpointReports.sort(Comparator.comparing(EndpointReport::endpoint).thenComparing(EndpointReport::handler));
+
+        return new Report(startedAt, elapsedSeconds, endpointReports);
+    }
+
+    // Prometheus text exposition format (0.0.4)
+    // 한 시계열의 분위수, _sum, _count, _max 는 모두 같은 스냅샷에서 나온다.
+    public String prometheus() {
+        List<Series> seriesList = new ArrayList<>();
+
+        for (EndpointMetrics metrics : sortedEndpoints()) {
+            for (int status = 0; status <= MAX_STATUS; status++) {
+                LatencyHistogram histogram = metrics.byStatus.get(status);
+
+                if (histogram == null) continue;
+
+                String labels = "endpoint=\"%s\",handler=\"%s\",status=\"%d\"".formatted(
+                        escapeLabel(metrics.endpoint),
+                        escapeLabel(metrics.handler),
+                        status
+                );
+
+                seriesList.add(new Series(labels, histogram.snapshot()));
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("# HELP http_server_request_duration_seconds Request latency by endpoint and status.\n");
+        sb.append("# TYPE http_server_request_duration_seconds summary\n");
+
+        for (Series series : seriesList) {
+            for (double quantile : QUANTILES) {
+                sb.append("http_server_request_duration_seconds{")
+                        .append(series.labels())
+                        .append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(series.snapshot().percentileMicros(quantile) / 1_000_000.0)
+                        .append('\n');
+            }
+
+            sb.append("http_server_request_duration_seconds_sum{").append(series.labels()).append("} ")
+                    .append(series.snapshot().totalMicros() / 1_000_000.0).append('\n');
+            sb.append("http_server_request_duration_seconds_count{").append(series.labels()).append("} ")
+                    .append(series.snapshot().count()).append('\n');
+        }
+
+        sb.append("# HELP http_server_request_duration_seconds_max Max request latency by endpoint and status.\n");
+        sb.append("# TYPE http_server_request_duration_seconds_max gauge\n");
+
+        for (Series series : seriesList) {
+            sb.append("http_server_request_duration_seconds_max{").append(series.labels()).append("} ")
+                    .append(series.snapshot().maxMicros() / 1_000_000.0)
+                    .append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    private List<EndpointMetrics> sortedEndpoints() {
+        return endpoints.values()
+                .stream()
+                .sorted(Comparator.comparing((EndpointMetrics metrics) -> metrics.endpoint).thenComparing(metrics -> metrics.handler))
+                .toList();
+    }
+
+    private static EndpointMetrics createMetrics(Method method) {
+        RequestMapping classMapping = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), RequestMapping.class);
+        RequestMapping methodMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+
+        String classPath = classMapping == null || classMapping.path().length == 0 ? "" : classMapping.path()[0];
+        String methodPath = methodMapping == null || methodMapping.path().length == 0 ? "" : methodMapping.path()[0];
+
+        String httpMethods = methodMapping == null || methodMapping.method().length == 0
+                ? "*"
+                : Arrays.stream(methodMapping.method()).map(Enum::name).collect(Collectors.joining(","));
+
+        String endpoint = httpMethods + " " + classPath + methodPath;
+
+        // 같은 경로를 params 로 나누는 경우(커서 목록 등)를 구분한다.
+        if (methodMapping != null && methodMapping.params().length > 0)
+            endpoint += "?" + String.join("&", methodMapping.params());
+
+        String handler = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+        return new EndpointMetrics(endpoint, handler);
+    }
+
+    private static String escapeLabel(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n");
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.ll.sbbdoc20250109.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 로그 스케일 버킷 히스토그램 (마이크로초 단위)
+// 2의 거듭제곱 구간마다 8개의 하위 버킷을 두어 상대 오차를 12.5% 이내로 유지한다.
+// record 는 락과 객체 생성 없이 원자 연산만 사용한다.
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    // 2^40 마이크로초(약 12일) 이상은 마지막 버킷에 모은다.
+    private static final int MAX_EXPONENT = 40;
+
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private static final int SNAPSHOT_ATTEMPTS = 4;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public record Snapshot(
+            long count,
+            long totalMicros,
+            long maxMicros,
+            long[] buckets
+    ) {
+        // 해당 분위수가 속한 버킷의 상한값, 최대값을 넘지 않는다.
+        public long percentileMicros(double quantile) {
+            if (count == 0) return 0;
+
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+
+                if (seen >= rank) return Math.min(bucketUpperBound(i), maxMicros);
+            }
+
+            return maxMicros;
+        }
+
+        public double meanMicros() {
+            return count == 0 ? 0 : (double) totalMicros / count;
+        }
+    }
+
+    // count 를 마지막에 올려 기록이 끝났음을 알린다. (snapshot 참고)
+    public void record(long micros) {
+        long value = Math.max(0, micros);
+
+        buckets.incrementAndGet(bucketIndex(value));
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+        count.incrementAndGet();
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    // count, 합계, 최대값, 버킷이 같은 기록들로 이루어진 스냅샷을 만든다. (Prometheus 의 _sum / _count 와 분위수가 어긋나지 않도록)
+    // 합계와 최대값을 버킷보다 먼저 읽으므로, 그 사이 끝나지 않은 기록이 섞였다면 버킷 합계가 count 와 달라져 다시 읽는다.
+    // 기록이 계속 몰려 맞추지 못하면 마지막으로 읽은 값을 쓰고 count 는 버킷 합계로 한다.
+    public Snapshot snapshot() {
+        long[] copied = new long[BUCKET_COUNT];
+        long copiedCount = 0;
+        long copiedTotalMicros = 0;
+        long copiedMaxMicros = 0;
+
+        for (int attempt = 0; attempt < SNAPSHOT_ATTEMPTS; attempt++) {
+            long countBefore = count.get();
+            copiedTotalMicros = totalMicros.get();
+            copiedMaxMicros = maxMicros.get();
+            copiedCount = 0;
+
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                copied[i] = buckets.get(i);
+                copiedCount += copied[i];
+            }
+
+            if (copiedCount == countBefore && count.get() == countBefore) break;
+        }
+
+        return new Snapshot(copiedCount, copiedTotalMicros, copiedMaxMicros, copied);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+
+        if (exponent > MAX_EXPONENT) return BUCKET_COUNT - 1;
+
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + mantissa;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+
+        int group = index / SUB_BUCKET_COUNT;
+        int mantissa = index % SUB_BUCKET_COUNT;
+
+        return ((long) (SUB_BUCKET_COUNT + mantissa + 1) << (group - 1)) - 1;
+    }
+
+}
@@ -9,13 +9,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.context.annotation.RequestScope;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @RequestScope
 @Component
@@ -44,6 +48,29 @@ public class Rq {
     }
 
     public void setLogin(SiteUser siteUser) {
+        SecurityContextHolder.getContext().setAuthentication(createAuthentication(siteUser));
+    }
+
+    // 토큰 검증은 getActor() 나 인가 규칙이 인증 정보를 처음 요구할 때 한 번만 실행된다.
+    // permitAll 경로에서 인증 정보를 쓰지 않으면 검증 자체를 하지 않는다.
+    // 응답이 이미 시작된 뒤에 실행될 수 있으므로 actorResolver 는 응답(헤더, 쿠키)을 건드리면 안 된다.
+    public void setLoginLazily(Supplier<SiteUser> actorResolver) {
+        SecurityContextHolderStrategy strategy = SecurityContextHolder.getContextHolderStrategy();
+        Supplier<SecurityContext> previousContext = strategy.getDeferredContext();
+
+        strategy.setDeferredContext(SingletonSupplier.of(() -> {
+            SiteUser siteUser = actorResolver.get();
+
+            if (siteUser == null) return previousContext.get();
+
+            SecurityContext context = strategy.createEmptyContext();
+            context.setAuthentication(createAuthentication(siteUser));
+
+            return context;
+        }));
+    }
+
+    private Authentication createAuthentication(SiteUser siteUser) {
         UserDetails user = new SecurityUser(
                 siteUser.getId(),
                 siteUser.getUsername(),
@@ -51,13 +78,11 @@ public class Rq {
                 siteUser.getAuthorities()
         );
 
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
+        return new UsernamePasswordAuthenticationToken(
                 user,
                 user.getPassword(),
                 user.getAuthorities()
         );
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     public void setCookie(String name, String value) {
@@ -1,19 +1,29 @@
 package com.ll.sbbdoc20250109.global.security;
 
 import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.SiteUserChangedEvent;
 import com.ll.sbbdoc20250109.domain.user.UserService;
 import com.ll.sbbdoc20250109.global.rq.Rq;
+import com.ll.sbbdoc20250109.standard.cache.LruCache;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @RequiredArgsConstructor
@@ -25,9 +35,35 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
     record AuthTokens(String apiKey, String accessToken) {
     }
 
-    private AuthTokens getAuthTokensFromRequest() {
-        String authorization = rq.getHeader("Authorization");
+    record RefreshedAccessToken(SiteUser user, String accessToken) {
+    }
+
+    // 같은 apiKey 로 동시에 들어온 재발급 요청은 먼저 들어온 요청의 결과를 함께 사용한다.
+    private final Map<String, CompletableFuture<Optional<RefreshedAccessToken>>> refreshingByApiKey = new ConcurrentHashMap<>();
+
+    // 재발급이 끝난 뒤 잠시 동안 같은 apiKey 로 들어오는 요청(만료된 토큰을 든 연속 요청)도
+    // 새로 발급하지 않고 같은 토큰과 쿠키를 받는다.
+    private LruCache<String, RefreshedAccessToken> recentlyRefreshedByApiKey;
+
+    @Value("${custom.accessToken.refreshReuseSeconds}")
+    private long refreshReuseSeconds;
+
+    @Value("${custom.accessToken.refreshReuseMaxSize}")
+    private int refreshReuseMaxSize;
+
+    @PostConstruct
+    void init() {
+        recentlyRefreshedByApiKey = new LruCache<>(refreshReuseMaxSize);
+    }
 
+    // apiKey 가 바뀐 회원의 토큰을 계속 내주지 않도록 비운다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(SiteUserChangedEvent event) {
+        recentlyRefreshedByApiKey.removeIf(refreshed -> refreshed.user().getId() == event.userId());
+    }
+
+    // "Bearer {apiKey} {accessToken}" 형식의 Authorization 헤더를 분리한다.
+    static AuthTokens getAuthTokensFromAuthorization(String authorization) {
         if (authorization != null && authorization.startsWith("Bearer ")) {
             String token = authorization.substring("Bearer ".length());
             String[] tokenBits = token.split(" ", 2);
@@ -36,6 +72,31 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
                 return new AuthTokens(tokenBits[0], tokenBits[1]);
         }
 
+        return null;
+    }
+
+    // 요청에 담긴 apiKey (검증하지 않은 값) - 인증이 아닌 요청 구분 용도로만 쓴다.
+    public static String getApiKey(HttpServletRequest request) {
+        AuthTokens authTokens = getAuthTokensFromAuthorization(request.getHeader("Authorization"));
+
+        if (authTokens != null) return authTokens.apiKey();
+
+        return Optional
+                .ofNullable(request.getCookies())
+                .stream()
+                .flatMap(Arrays::stream)
+                .filter(cookie -> cookie.getName().equals("apiKey"))
+                .map(Cookie::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private AuthTokens getAuthTokensFromRequest() {
+        AuthTokens authTokensFromHeader = getAuthTokensFromAuthorization(rq.getHeader("Authorization"));
+
+        if (authTokensFromHeader != null)
+            return authTokensFromHeader;
+
         String apiKey = rq.getCookieValue("apiKey");
         String accessToken = rq.getCookieValue("accessToken");
 
@@ -46,25 +107,57 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
     }
 
 
-    private void refreshAccessToken(SiteUser member) {
-        String newAccessToken = userService.genAccessToken(member);
-
+    private void refreshAccessToken(SiteUser member, String newAccessToken) {
         rq.setHeader("Authorization", "Bearer " + member.getApiKey() + " " + newAccessToken);
         rq.setCookie("accessToken", newAccessToken);
     }
 
     private SiteUser refreshAccessTokenByApiKey(String apiKey) {
-        Optional<SiteUser> opMemberByApiKey = userService.findByApiKey(apiKey);
+        RefreshedAccessToken recentlyRefreshed = recentlyRefreshedByApiKey.get(apiKey);
 
-        if (opMemberByApiKey.isEmpty()) {
+        if (recentlyRefreshed != null) {
+            refreshAccessToken(recentlyRefreshed.user(), recentlyRefreshed.accessToken());
+
+            return recentlyRefreshed.user();
+        }
+
+        CompletableFuture<Optional<RefreshedAccessToken>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<RefreshedAccessToken>> inFlight = refreshingByApiKey.putIfAbsent(apiKey, future);
+
+        if (inFlight == null) {
+            try {
+                Optional<RefreshedAccessToken> refreshed = userService.findCachedByApiKey(apiKey)
+                        .map(user -> new RefreshedAccessToken(user, userService.genAccessToken(user)));
+
+                // 진행 중 표시를 지우기 전에 넣어 두어야 그 사이에 들어온 요청도 같은 토큰을 받는다.
+                refreshed.ifPresent(it -> recentlyRefreshedByApiKey.put(
+                        apiKey,
+                        it,
+                        System.currentTimeMillis() + refreshReuseSeconds * 1000
+                ));
+
+                future.complete(refreshed);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                refreshingByApiKey.remove(apiKey, future);
+            }
+
+            inFlight = future;
+        }
+
+        Optional<RefreshedAccessToken> opRefreshed = inFlight.join();
+
+        if (opRefreshed.isEmpty()) {
             return null;
         }
 
-        SiteUser user = opMemberByApiKey.get();
+        RefreshedAccessToken refreshed = opRefreshed.get();
 
-        refreshAccessToken(user);
+        refreshAccessToken(refreshed.user(), refreshed.accessToken());
 
-        return user;
+        return refreshed.user();
     }
 
     @Override
@@ -86,16 +179,19 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String apiKey = authTokens.apiKey;
-        String accessToken = authTokens.accessToken;
+        // 재발급은 응답 헤더와 쿠키를 쓰므로 응답이 시작되기 전인 여기서 한다. (서명 검증 없이 exp 로 판단)
+        if (userService.needsAccessTokenRefresh(authTokens.accessToken)) {
+            SiteUser user = refreshAccessTokenByApiKey(authTokens.apiKey);
 
-        SiteUser user = userService.getUserFromAccessToken(accessToken);
+            if (user != null) rq.setLogin(user);
 
-        if (user == null)
-            user = refreshAccessTokenByApiKey(apiKey);
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        if (user != null)
-            rq.setLogin(user);
+        // 만료 전 토큰의 서명 검증만 인증 정보가 처음 필요할 때로 미룬다.
+        // 서명이 맞지 않으면 재발급하지 않고 비로그인으로 처리한다.
+        rq.setLoginLazily(() -> userService.getUserFromAccessToken(authTokens.accessToken));
 
         filterChain.doFilter(request, response);
     }
@@ -25,6 +25,7 @@ public class SecurityConfig {
                                 .permitAll()
                                 .requestMatchers("/api/*/user/login", "/api/*/user/sign-up", "/api/v1/user/logout").permitAll()
                                 .requestMatchers("/api/v1/question_list/statistics").hasAuthority("ROLE_ADMIN")
+                                .requestMatchers("/api/*/admin/**").hasAuthority("ROLE_ADMIN")
                                 .requestMatchers("/api/*/**")
                                 .authenticated()
                                 .anyRequest()
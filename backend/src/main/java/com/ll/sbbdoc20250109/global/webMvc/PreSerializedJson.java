@@ -0,0 +1,9 @@
+package com.ll.sbbdoc20250109.global.webMvc;
+
+// 미리 직렬화해 둔 JSON 응답 본문 (UTF-8)
+// gzip 은 압축할 가치가 없을 만큼 작으면 null 이다.
+public record PreSerializedJson(
+        byte[] json,
+        byte[] gzip
+) {
+}
@@ -0,0 +1,108 @@
+package com.ll.sbbdoc20250109.global.webMvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+
+// PreSerializedJson 을 Jackson 을 거치지 않고 그대로 내보낸다.
+// 클라이언트가 gzip 을 받을 수 있고 압축본이 있으면 압축본을 보낸다.
+public class PreSerializedJsonHttpMessageConverter extends AbstractHttpMessageConverter<PreSerializedJson> {
+
+    public PreSerializedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreSerializedJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    // canRead 가 false 라 요청 본문을 읽을 때는 선택되지 않는다.
+    // 직접 불린 경우에도 500 이 아니라 읽을 수 없는 본문(400)으로 처리되게 한다.
+    @Override
+    protected PreSerializedJson readInternal(Class<? extends PreSerializedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("PreSerializedJson 은 응답 전용이라 요청 본문으로 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PreSerializedJson body, HttpOutputMessage outputMessage) throws IOException {
+        HttpHeaders headers = outputMessage.getHeaders();
+        byte[] bytes = body.json();
+
+        if (body.gzip() != null) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+            if (acceptsGzip()) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                bytes = body.gzip();
+            }
+        }
+
+        headers.setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    private boolean acceptsGzip() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return false;
+
+        HttpServletRequest request = attributes.getRequest();
+
+        return acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    // RFC 9110 12.5.3: gzip 이 q > 0 으로 명시되었거나, 명시되지 않았고 * 가 q > 0 일 때만 받는다.
+    // (gzip;q=0 은 거부, "*;q=0.5, gzip;q=0" 도 거부)
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        Double gzipQ = null;
+        Double wildcardQ = null;
+
+        for (String item : acceptEncoding.split(",")) {
+            String[] parts = item.split(";");
+            String coding = parts[0].trim().toLowerCase();
+
+            if (!coding.equals("gzip") && !coding.equals("x-gzip") && !coding.equals("*")) continue;
+
+            double q = qValue(parts);
+
+            if (coding.equals("*")) wildcardQ = q;
+            else gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+        }
+
+        if (gzipQ != null) return gzipQ > 0;
+
+        return wildcardQ != null && wildcardQ > 0;
+    }
+
+    // q 가 없으면 1, 잘못된 값이면 0 (받지 않는 쪽으로)
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+
+            if (param.length() < 2 || Character.toLowerCase(param.charAt(0)) != 'q' || param.charAt(1) != '=') continue;
+
+            try {
+                return Double.parseDouble(param.substring(2).trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        return 1;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.ll.sbbdoc20250109.global.webMvc;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Jackson 컨버터보다 먼저 PreSerializedJson 을 처리하도록 맨 앞에 둔다.
+        converters.addFirst(new PreSerializedJsonHttpMessageConverter());
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.ll.sbbdoc20250109.standard.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// 크기 제한이 있는 LRU 캐시 (접근 순서 LinkedHashMap)
+// 가득 차면 가장 오래 쓰이지 않은 항목 하나를 O(1) 로 내보낸다.
+// 항목마다 만료 시각을 둘 수 있고, 만료된 항목은 조회할 때 버리거나 purgeExpired 로 한꺼번에 비운다.
+// 가상 스레드가 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock 을 쓴다.
+public class LruCache<K, V> {
+
+    public record Stats(long size, long maxSize, long hitCount, long missCount, double hitRate) {}
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    private final int maxSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public LruCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    // 없거나 만료되었으면 null
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+
+        lock.lock();
+
+        try {
+            Entry<V> entry = entries.get(key);
+
+            if (entry != null && now < entry.expiresAt()) {
+                hitCount.increment();
+                return entry.value();
+            }
+
+            if (entry != null) entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+
+        missCount.increment();
+
+        return null;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    public void put(K key, V value, long expiresAt) {
+        if (maxSize <= 0) return;
+
+        lock.lock();
+
+        try {
+            entries.put(key, new Entry<>(value, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.lock();
+
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 다른 스레드가 그 사이에 새 값을 넣었으면 지우지 않는다.
+    public void remove(K key, V value) {
+        lock.lock();
+
+        try {
+            Entry<V> entry = entries.get(key);
+
+            if (entry != null && entry.value() == value) entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 전체를 훑으므로 요청 경로가 아닌 무효화 이벤트나 스케줄러에서만 쓴다.
+    public void removeIf(Predicate<V> predicate) {
+        lock.lock();
+
+        try {
+            entries.values().removeIf(entry -> predicate.test(entry.value()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 전체를 훑으므로 스케줄러에서만 호출한다.
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+
+        lock.lock();
+
+        try {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+
+        return new Stats(
+                size(),
+                maxSize,
+                hits,
+                misses,
+                hits + misses == 0 ? 0 : (double) hits / (hits + misses)
+        );
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.ll.sbbdoc20250109.standard.page;
+
+import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
+import com.ll.sbbdoc20250109.standard.util.Ut;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// 커서(keyset) 기반 페이지 - COUNT 쿼리 없이 id 기준으로 다음 / 이전 페이지를 조회한다.
+@Getter
+public class CursorPageDto<T> {
+
+    private int limit;
+    private String prevCursor;
+    private String nextCursor;
+    private List<T> items;
+
+    public CursorPageDto(List<T> items, int limit, String prevCursor, String nextCursor) {
+        this.items = items;
+        this.limit = limit;
+        this.prevCursor = prevCursor;
+        this.nextCursor = nextCursor;
+    }
+
+    public <R> CursorPageDto<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPageDto<>(
+                items.stream().<R>map(mapper).toList(),
+                limit,
+                prevCursor,
+                nextCursor
+        );
+    }
+
+    // after 가 있으면 id < after 를 내림차순으로, before 만 있으면 id > before 를 오름차순으로 조회한다.
+    // 한 건을 더 조회해서 다음(이전) 페이지가 있는지 판단한다.
+    public static <T> CursorPageDto<T> fetch(
+            String after,
+            String before,
+            int limit,
+            ToLongFunction<T> idGetter,
+            Function<Pageable, List<T>> first,
+            BiFunction<Long, Pageable, List<T>> older,
+            BiFunction<Long, Pageable, List<T>> newer
+    ) {
+        limit = Math.max(1, limit);
+        Pageable fetchLimit = PageRequest.of(0, limit + 1);
+
+        boolean backward = Ut.str.isBlank(after) && !Ut.str.isBlank(before);
+        boolean hasCursor = !Ut.str.isBlank(after) || backward;
+
+        List<T> rows;
+
+        if (backward) rows = newer.apply(decodeCursor(before), fetchLimit);
+        else if (hasCursor) rows = older.apply(decodeCursor(after), fetchLimit);
+        else rows = first.apply(fetchLimit);
+
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+
+        if (backward) items = items.reversed();
+
+        if (items.isEmpty()) return new CursorPageDto<>(items, limit, null, null);
+
+        String firstCursor = encodeCursor(idGetter.applyAsLong(items.getFirst()));
+        String lastCursor = encodeCursor(idGetter.applyAsLong(items.getLast()));
+
+        String prevCursor = (backward ? hasMore : hasCursor) ? firstCursor : null;
+        String nextCursor = (backward ? hasCursor : hasMore) ? lastCursor : null;
+
+        return new CursorPageDto<>(items, limit, prevCursor, nextCursor);
+    }
+
+    public static String encodeCursor(long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException("400-2", "잘못된 커서입니다.");
+        }
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.ll.sbbdoc20250109.standard.util;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -15,6 +18,7 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -37,13 +41,26 @@ public class Ut {
     }
 
     public static class jwt {
+        public static SecretKey secretKey(String secret) {
+            return Keys.hmacShaKeyFor(secret.getBytes());
+        }
+
+        public static JwtParser parser(SecretKey secretKey) {
+            return Jwts
+                    .parser()
+                    .verifyWith(secretKey)
+                    .build();
+        }
+
         public static String toString(String secret, long expireSeconds, Map<String, Object> body) {
+            return toString(secretKey(secret), expireSeconds, body);
+        }
+
+        public static String toString(SecretKey secretKey, long expireSeconds, Map<String, Object> body) {
 
             Date issuedAt = new Date();
             Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
 
-            SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
-
             String jwt = Jwts.builder()
                     .claims(body)
                     .issuedAt(issuedAt)
@@ -55,33 +72,33 @@ public class Ut {
         }
 
         public static boolean isValid(String secret, String jwtStr) {
+            return claims(parser(secretKey(secret)), jwtStr) != null;
+        }
 
-            SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        public static Map<String, Object> payload(String secret, String jwtStr) {
+            return claims(parser(secretKey(secret)), jwtStr);
+        }
 
-            try {
-                Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parse(jwtStr);
-            } catch (Exception e) {
-                return false;
-            }
+        // 서명을 검증하지 않고 payload 의 exp(초)만 읽는다. 형식이 올바르지 않으면 null
+        public static Long unverifiedExpiration(String jwtStr) {
+            String[] parts = jwtStr.split("\\.");
 
-            return true;
+            if (parts.length != 3) return null;
 
-        }
+            try {
+                JsonNode exp = json.om.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
 
-        public static Map<String, Object> payload(String secret, String jwtStr) {
+                return exp != null && exp.canConvertToLong() ? exp.asLong() : null;
+            } catch (IOException | IllegalArgumentException e) {
+                return null;
+            }
+        }
 
-            SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        public static Claims claims(JwtParser parser, String jwtStr) {
 
             try {
-                return (Map<String, Object>) Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parse(jwtStr)
+                return parser
+                        .parseSignedClaims(jwtStr)
                         .getPayload();
             } catch (Exception e) {
                 return null;
@@ -0,0 +1,27 @@
+package com.ll.benchmark.idgeneration;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// IdGenerationBenchmarkTest 용 - 이전 방식(IDENTITY)으로 id 를 만드는 엔티티
+// 애플리케이션의 엔티티 스캔 범위(com.ll.sbbdoc20250109) 밖에 두고 그 테스트의 컨텍스트에서만 등록한다.
+@Entity
+@Getter
+@NoArgsConstructor
+public class IdentityBenchmarkRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String content;
+
+    public IdentityBenchmarkRow(String content) {
+        this.content = content;
+    }
+
+}
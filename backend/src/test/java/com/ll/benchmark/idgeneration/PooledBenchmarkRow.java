@@ -0,0 +1,21 @@
+package com.ll.benchmark.idgeneration;
+
+import com.ll.sbbdoc20250109.domain.base.BaseEntity;
+import jakarta.persistence.Entity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// IdGenerationBenchmarkTest 용 - 현재 방식(BaseEntity 의 pooled-lo 시퀀스)으로 id 를 만드는 엔티티
+// 애플리케이션의 엔티티 스캔 범위(com.ll.sbbdoc20250109) 밖에 두고 그 테스트의 컨텍스트에서만 등록한다.
+@Entity
+@Getter
+@NoArgsConstructor
+public class PooledBenchmarkRow extends BaseEntity {
+
+    private String content;
+
+    public PooledBenchmarkRow(String content) {
+        this.content = content;
+    }
+
+}
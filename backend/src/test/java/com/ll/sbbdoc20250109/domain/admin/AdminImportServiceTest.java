@@ -0,0 +1,80 @@
+package com.ll.sbbdoc20250109.domain.admin;
+
+import com.ll.sbbdoc20250109.domain.question.Question;
+import com.ll.sbbdoc20250109.domain.question.QuestionService;
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// chunkSize 를 2 로 두고 검증 실패 / 저장 실패 줄이 섞인 NDJSON 을 넣어
+// 실패한 줄만 보고되고 같은 chunk 의 정상 줄은 등록되는지 확인한다.
+@SpringBootTest(properties = "custom.bulkImport.chunkSize=2")
+@ActiveProfiles("test")
+class AdminImportServiceTest {
+
+    @Autowired
+    private AdminImportService adminImportService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void reportsOnlyFailedLines() {
+        String prefix = "import" + System.nanoTime() % 1_000_000 + " ";
+
+        // 정상 줄(1, 5, 7)만 chunk 에 모이므로 chunk 는 [1, 5], [6, 7] 이 된다.
+        // 6 번 줄은 검증은 통과하지만 subject 컬럼 길이(100)를 넘어 저장할 때 실패한다.
+        String ndjson = String.join("\n",
+                line("user1", prefix + "첫 번째", "글 내용입니다."),
+                "{not json",
+                line("user1", "ab", "글 내용입니다."),
+                line("nobody", prefix + "없는 작성자", "글 내용입니다."),
+                line("", prefix + "기본 작성자", "글 내용입니다."),
+                line("user2", prefix + "x".repeat(100), "글 내용입니다."),
+                line("user2", prefix + "마지막", "글 내용입니다.")
+        );
+
+        SiteUser admin = userService.findByUsername("admin").get();
+
+        AdminImportService.ImportReport report = adminImportService.importQuestions(
+                new BufferedReader(new StringReader(ndjson)),
+                admin
+        );
+
+        assertThat(report.totalLines()).isEqualTo(7);
+        assertThat(report.importedCount()).isEqualTo(3);
+        assertThat(report.failedCount()).isEqualTo(4);
+
+        assertThat(report.errors())
+                .extracting(AdminImportService.ImportError::line)
+                .containsExactly(2L, 3L, 4L, 6L);
+
+        assertThat(report.errors().get(0).message()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+        assertThat(report.errors().get(1).message()).startsWith("subject-Length-");
+        assertThat(report.errors().get(2).message()).isEqualTo("존재하지 않는 작성자입니다. (nobody)");
+        assertThat(report.errors().get(3).message()).startsWith("저장에 실패했습니다.");
+
+        assertThat(questionService.findAll())
+                .extracting(Question::getSubject)
+                .filteredOn(subject -> subject.startsWith(prefix))
+                .containsExactlyInAnyOrder(prefix + "첫 번째", prefix + "기본 작성자", prefix + "마지막");
+    }
+
+    private static String line(String author, String subject, String content) {
+        return """
+                {"author": "%s", "subject": "%s", "content": "%s", "published": true, "listed": true, "answers": [{"author": "user1", "content": "댓글입니다."}]}"""
+                .formatted(author, subject, content);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.ll.sbbdoc20250109.domain.base;
+
+import com.ll.benchmark.idgeneration.IdentityBenchmarkRow;
+import com.ll.benchmark.idgeneration.PooledBenchmarkRow;
+import com.ll.sbbdoc20250109.SbbDoc20250109Application;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+
+// ./gradlew benchmark --tests '*IdGenerationBenchmarkTest'
+// 같은 컬럼을 가진 IDENTITY 엔티티(이전 방식)와 pooled-lo 시퀀스 엔티티(현재 방식)를
+// 같은 조건으로 insert 해서 초당 insert 수를 한 번에 비교한다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class IdGenerationBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int CHUNK_SIZE = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${custom.id.allocationSize}")
+    private int allocationSize;
+
+    // 벤치마크용 엔티티는 이 테스트의 컨텍스트에만 추가한다. (@EntityScan 은 기본 스캔을 대신하므로 애플리케이션 패키지도 함께 적는다.)
+    @TestConfiguration
+    @EntityScan(basePackageClasses = {SbbDoc20250109Application.class, IdentityBenchmarkRow.class})
+    static class BenchmarkEntities {
+    }
+
+    @Test
+    void insertRows() {
+        // 워밍업 (JIT, 커넥션 풀, 시퀀스)
+        insert(CHUNK_SIZE, IdentityBenchmarkRow::new);
+        insert(CHUNK_SIZE, PooledBenchmarkRow::new);
+
+        double identity = measure("IDENTITY", IdentityBenchmarkRow::new);
+        double pooled = measure("pooled-lo(allocationSize=%d)".formatted(allocationSize), PooledBenchmarkRow::new);
+
+        System.out.printf("[IdGenerationBenchmark] pooled-lo / IDENTITY = %.2fx%n", pooled / identity);
+    }
+
+    private double measure(String strategy, Function<String, Object> rowFactory) {
+        long startedAt = System.nanoTime();
+
+        insert(ROWS, rowFactory);
+
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        double insertsPerSecond = ROWS / seconds;
+
+        System.out.printf(
+                "[IdGenerationBenchmark] strategy=%s, rows=%d, elapsed=%.3fs, inserts/s=%.0f%n",
+                strategy,
+                ROWS,
+                seconds,
+                insertsPerSecond
+        );
+
+        return insertsPerSecond;
+    }
+
+    private void insert(int rows, Function<String, Object> rowFactory) {
+        for (int from = 0; from < rows; from += CHUNK_SIZE) {
+            int chunkFrom = from;
+            int size = Math.min(CHUNK_SIZE, rows - from);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < size; i++) {
+                    entityManager.persist(rowFactory.apply("벤치마크 내용 " + (chunkFrom + i)));
+                }
+
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+}
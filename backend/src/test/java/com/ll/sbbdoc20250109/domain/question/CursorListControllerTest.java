@@ -0,0 +1,106 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 커서 목록 API 의 앞 / 뒤 이동, limit 상한, 잘못된 커서 처리를 확인한다.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CursorListControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void questionListWalksForwardAndBack() throws Exception {
+        JsonNode first = getJson("/api/v1/question_list?limit=2");
+
+        assertThat(first.path("prevCursor").isNull()).isTrue();
+        assertThat(first.path("items")).hasSize(2);
+
+        String nextCursor = first.path("nextCursor").asText();
+
+        JsonNode second = getJson("/api/v1/question_list?limit=2&after=" + nextCursor);
+
+        assertThat(second.path("items")).hasSize(2);
+        assertThat(second.path("items").get(0).path("id").asLong())
+                .isLessThan(first.path("items").get(1).path("id").asLong());
+        assertThat(second.path("prevCursor").isNull()).isFalse();
+
+        JsonNode back = getJson("/api/v1/question_list?limit=2&before=" + second.path("prevCursor").asText());
+
+        assertThat(back.path("items")).isEqualTo(first.path("items"));
+        assertThat(back.path("prevCursor").isNull()).isTrue();
+        assertThat(back.path("nextCursor").asText()).isEqualTo(nextCursor);
+    }
+
+    @Test
+    void questionListLimitIsClamped() throws Exception {
+        mvc.perform(get("/api/v1/question_list").param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limit").value(100));
+    }
+
+    @Test
+    void questionListMalformedCursorIsBadRequest() throws Exception {
+        mvc.perform(get("/api/v1/question_list").param("limit", "5").param("after", "!!!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-2"));
+
+        mvc.perform(get("/api/v1/question_list").param("limit", "5").param("before", "YWJj"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-2"));
+    }
+
+    @Test
+    void myCursorListLimitIsClamped() throws Exception {
+        mvc.perform(get("/api/v1/user/profile/my-list").param("limit", "1000").header(HttpHeaders.AUTHORIZATION, authorization("user1")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limit").value(100));
+    }
+
+    @Test
+    void myCursorListMalformedCursorIsBadRequest() throws Exception {
+        mvc.perform(get("/api/v1/user/profile/my-list").param("limit", "5").param("after", "!!!").header(HttpHeaders.AUTHORIZATION, authorization("user1")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-2"));
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(body);
+    }
+
+    private String authorization(String username) {
+        SiteUser user = userService.findByUsername(username).get();
+
+        return "Bearer " + user.getApiKey() + " " + userService.genAccessToken(user);
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import com.ll.sbbdoc20250109.domain.question.dto.QuestionListDto;
+import com.ll.sbbdoc20250109.domain.user.SiteUserChangedEvent;
+import com.ll.sbbdoc20250109.standard.page.PageDto;
+import com.ll.sbbdoc20250109.standard.serach.SearchKeywordTypeV1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 신선 / stale(백그라운드 갱신) / 무효화 세대 / 댓글 수, 회원 정보 변경 시 비우기를 확인한다.
+class QuestionListCacheTest {
+
+    private static final QuestionListCache.Key KEY = new QuestionListCache.Key(1, 10, SearchKeywordTypeV1.subject, "");
+
+    private QuestionListCache cache;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void freshEntryIsServedWithoutLoading() {
+        cache = cache(60, 60);
+
+        PageDto<QuestionListDto> first = cache.get(KEY, loader(1L));
+        PageDto<QuestionListDto> second = cache.get(KEY, loader(1L));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void staleEntryIsServedWhileRefreshingInBackground() throws Exception {
+        // ttl 0 이므로 넣자마자 stale 이다.
+        cache = cache(0, 60);
+
+        PageDto<QuestionListDto> first = cache.get(KEY, loader(1L));
+
+        CountDownLatch refreshed = new CountDownLatch(1);
+        PageDto<QuestionListDto> refreshedValue = page(1L);
+
+        PageDto<QuestionListDto> stale = cache.get(KEY, () -> {
+            loadCount.incrementAndGet();
+            refreshed.countDown();
+
+            return refreshedValue;
+        });
+
+        assertThat(stale).isSameAs(first);
+        assertThat(refreshed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 갱신 결과가 캐시에 들어간 뒤에는 새 값을 돌려준다.
+        long deadline = System.currentTimeMillis() + 5000;
+        PageDto<QuestionListDto> current;
+
+        do {
+            current = cache.get(KEY, () -> refreshedValue);
+        } while (current != refreshedValue && System.currentTimeMillis() < deadline);
+
+        assertThat(current).isSameAs(refreshedValue);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void expiredEntryIsLoadedSynchronously() {
+        cache = cache(0, 0);
+
+        cache.get(KEY, loader(1L));
+        cache.get(KEY, loader(1L));
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void loadStartedBeforeInvalidationIsNotCached() throws Exception {
+        cache = cache(60, 60);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+
+        CompletableFuture<PageDto<QuestionListDto>> inFlight = CompletableFuture.supplyAsync(() -> cache.get(KEY, () -> {
+            loading.countDown();
+
+            try {
+                invalidated.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return page(1L);
+        }));
+
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.invalidateAll();
+        invalidated.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+
+        cache.get(KEY, loader(1L));
+
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void answerCountChangeEvictsOnlyPagesContainingTheQuestion() {
+        cache = cache(60, 60);
+
+        QuestionListCache.Key otherKey = new QuestionListCache.Key(1, 5, SearchKeywordTypeV1.subject, "");
+
+        cache.get(KEY, loader(1L));
+        cache.get(otherKey, loader(2L));
+
+        cache.handle(new QuestionAnswerCountChangedEvent(1L));
+
+        cache.get(KEY, loader(1L));
+        cache.get(otherKey, loader(2L));
+
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    void siteUserChangeEvictsEverything() {
+        cache = cache(60, 60);
+
+        cache.get(KEY, loader(1L));
+
+        cache.handle(new SiteUserChangedEvent(1L));
+
+        cache.get(KEY, loader(1L));
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private QuestionListCache cache(long ttlSeconds, long staleSeconds) {
+        QuestionListCache cache = new QuestionListCache();
+
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "cachedPages", 1);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+        ReflectionTestUtils.setField(cache, "staleSeconds", staleSeconds);
+
+        cache.init();
+
+        return cache;
+    }
+
+    private Supplier<PageDto<QuestionListDto>> loader(long questionId) {
+        return () -> {
+            loadCount.incrementAndGet();
+
+            return page(questionId);
+        };
+    }
+
+    private static PageDto<QuestionListDto> page(long questionId) {
+        QuestionListDto dto = new QuestionListDto(
+                questionId,
+                LocalDateTime.now(),
+                LocalDateTime.now(),
+                "제목",
+                "작성자",
+                true,
+                true,
+                0
+        );
+
+        return new PageDto<>(new PageImpl<>(List.of(dto)));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import com.ll.sbbdoc20250109.standard.serach.SearchKeywordTypeV1;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// n-gram 검색, listed 구분, 내용 길이 제한, 재구성 도중 삭제된 글이 다시 색인되지 않는지 확인한다.
+class QuestionSearchIndexTest {
+
+    private QuestionRepository questionRepository;
+    private QuestionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository = mock(QuestionRepository.class);
+        index = new QuestionSearchIndex(questionRepository);
+
+        ReflectionTestUtils.setField(index, "maxContentLength", 20);
+    }
+
+    @Test
+    void searchesByNgrams() {
+        put(1, "스프링 부트 질문", "내용", true);
+        put(2, "스프링 시큐리티", "내용", true);
+        put(3, "자바 질문", "내용", true);
+
+        // 1글자: 1-gram 일치
+        assertThat(search(SearchKeywordTypeV1.subject, "링")).containsExactly(2L, 1L);
+        // 2글자: 2-gram 일치
+        assertThat(search(SearchKeywordTypeV1.subject, "질문")).containsExactly(3L, 1L);
+        // 3글자 이상: 2-gram 교집합 후 원문 확인 ("스프" + "프링" 은 있지만 "스프링 시" 는 2번만)
+        assertThat(search(SearchKeywordTypeV1.subject, "스프링 시")).containsExactly(2L);
+        assertThat(search(SearchKeywordTypeV1.subject, "부트 질문")).containsExactly(1L);
+        assertThat(search(SearchKeywordTypeV1.subject, "파이썬")).isEmpty();
+    }
+
+    @Test
+    void searchesSubjectAndContentSeparately() {
+        put(1, "제목입니다", "본문에만 있는 단어", true);
+
+        assertThat(search(SearchKeywordTypeV1.subject, "단어")).isEmpty();
+        assertThat(search(SearchKeywordTypeV1.content, "단어")).containsExactly(1L);
+    }
+
+    @Test
+    void filtersByListed() {
+        put(1, "공개 목록 글", "내용", true);
+        put(2, "숨긴 목록 글", "내용", false);
+
+        assertThat(index.search(SearchKeywordTypeV1.subject, "목록", true)).containsExactly(1L);
+        assertThat(index.search(SearchKeywordTypeV1.subject, "목록", false)).containsExactly(2L);
+    }
+
+    @Test
+    void modifyAndDeleteUpdatePostings() {
+        put(1, "처음 제목", "내용", true);
+
+        index.handle(QuestionChangedEvent.modified(1, snapshot("처음 제목", true), snapshot("바뀐 제목", true)));
+
+        assertThat(search(SearchKeywordTypeV1.subject, "처음")).isEmpty();
+        assertThat(search(SearchKeywordTypeV1.subject, "바뀐")).containsExactly(1L);
+
+        index.handle(deleted(1));
+
+        assertThat(search(SearchKeywordTypeV1.subject, "바뀐")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void indexesOnlyContentPrefix() {
+        put(1, "긴 글", "가".repeat(20) + "뒤쪽단어", true);
+
+        assertThat(search(SearchKeywordTypeV1.content, "가가")).containsExactly(1L);
+        assertThat(search(SearchKeywordTypeV1.content, "뒤쪽")).isEmpty();
+    }
+
+    @Test
+    void questionDeletedDuringRebuildIsNotIndexed() {
+        when(questionRepository.findMinId()).thenReturn(1L);
+        when(questionRepository.findMaxId()).thenReturn(2L);
+
+        // 재구성이 1, 2 번 글을 읽은 뒤 색인하기 전에 1 번 글이 삭제된다.
+        when(questionRepository.findSearchDocumentsByIdBetween(anyLong(), anyLong())).thenAnswer(invocation -> {
+            index.handle(deleted(1));
+
+            return List.of(
+                    new QuestionSearchDocument(1L, "삭제된 글", "내용", true),
+                    new QuestionSearchDocument(2L, "남은 글", "내용", true)
+            );
+        });
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(search(SearchKeywordTypeV1.subject, "글")).containsExactly(2L);
+    }
+
+    @Test
+    void questionModifiedDuringRebuildKeepsNewerVersion() {
+        when(questionRepository.findMinId()).thenReturn(1L);
+        when(questionRepository.findMaxId()).thenReturn(1L);
+
+        // 재구성이 옛 제목을 읽은 뒤 색인하기 전에 글이 수정된다.
+        when(questionRepository.findSearchDocumentsByIdBetween(anyLong(), anyLong())).thenAnswer(invocation -> {
+            index.handle(QuestionChangedEvent.modified(1, snapshot("옛 제목", true), snapshot("새 제목", true)));
+
+            return List.of(new QuestionSearchDocument(1L, "옛 제목", "내용", true));
+        });
+
+        index.rebuild();
+
+        assertThat(search(SearchKeywordTypeV1.subject, "새")).containsExactly(1L);
+        assertThat(search(SearchKeywordTypeV1.subject, "옛")).isEmpty();
+    }
+
+    private void put(long id, String subject, String content, boolean listed) {
+        index.handle(QuestionChangedEvent.modified(id, null, new QuestionChangedEvent.Snapshot(subject, content, true, listed)));
+    }
+
+    private List<Long> search(SearchKeywordTypeV1 searchKeywordType, String searchKeyword) {
+        return index.search(searchKeywordType, searchKeyword, true);
+    }
+
+    private static QuestionChangedEvent.Snapshot snapshot(String subject, boolean listed) {
+        return new QuestionChangedEvent.Snapshot(subject, "내용", true, listed);
+    }
+
+    private static QuestionChangedEvent deleted(long id) {
+        return new QuestionChangedEvent(id, snapshot("삭제", true), null);
+    }
+
+}
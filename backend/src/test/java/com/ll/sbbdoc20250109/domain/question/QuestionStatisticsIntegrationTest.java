@@ -0,0 +1,71 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 컨텍스트가 뜬 뒤(ApplicationReadyEvent) DB 값으로 채워져 있고, 커밋된 변경만 반영되는지 확인한다.
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionStatisticsIntegrationTest {
+
+    @Autowired
+    private QuestionStatistics questionStatistics;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void seededOnApplicationReady() {
+        assertThat(questionStatistics.getTotalQuestionCount()).isEqualTo(questionRepository.count());
+        assertThat(questionStatistics.getTotalPublishedCount()).isEqualTo(questionRepository.countByPublished(true));
+        assertThat(questionStatistics.getTotalListedCount()).isEqualTo(questionRepository.countByListed(true));
+    }
+
+    @Test
+    void committedWriteIsCounted() {
+        long total = questionStatistics.getTotalQuestionCount();
+        long published = questionStatistics.getTotalPublishedCount();
+        long listed = questionStatistics.getTotalListedCount();
+
+        transactionTemplate.executeWithoutResult(status ->
+                questionService.write(author(), "통계 확인", "통계 확인용 글", true, false)
+        );
+
+        assertThat(questionStatistics.getTotalQuestionCount()).isEqualTo(total + 1);
+        assertThat(questionStatistics.getTotalPublishedCount()).isEqualTo(published + 1);
+        assertThat(questionStatistics.getTotalListedCount()).isEqualTo(listed);
+    }
+
+    @Test
+    void rolledBackWriteIsNotCounted() {
+        long total = questionStatistics.getTotalQuestionCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            questionService.write(author(), "통계 확인", "롤백될 글", true, true);
+            status.setRollbackOnly();
+        });
+
+        assertThat(questionStatistics.getTotalQuestionCount()).isEqualTo(total);
+    }
+
+    private SiteUser author() {
+        return userService.findByUsername("user1").get();
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.ll.sbbdoc20250109.domain.question;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 시작 시 DB 값으로 채우고, 글 변경 이벤트로 증감하며, reconcile 로 어긋난 값을 DB 에 맞추는지 확인한다.
+class QuestionStatisticsTest {
+
+    private QuestionRepository questionRepository;
+    private QuestionStatistics questionStatistics;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository = mock(QuestionRepository.class);
+        questionStatistics = new QuestionStatistics(questionRepository);
+
+        givenDb(10, 7, 5);
+    }
+
+    @Test
+    void seedLoadsCountsFromDb() {
+        assertCounts(0, 0, 0);
+
+        questionStatistics.seed();
+
+        assertCounts(10, 7, 5);
+    }
+
+    @Test
+    void createdAndDeletedEvents() {
+        questionStatistics.seed();
+
+        questionStatistics.handle(created(true, true));
+        questionStatistics.handle(created(true, false));
+        questionStatistics.handle(created(false, false));
+
+        assertCounts(13, 9, 6);
+
+        questionStatistics.handle(deleted(true, true));
+        questionStatistics.handle(deleted(false, false));
+
+        assertCounts(11, 8, 5);
+    }
+
+    @Test
+    void modifiedEventsChangeOnlyFlippedFlags() {
+        questionStatistics.seed();
+
+        // 공개 -> 비공개, 목록 노출 그대로
+        questionStatistics.handle(modified(true, true, false, true));
+
+        assertCounts(10, 6, 5);
+
+        // 목록 숨김 -> 노출
+        questionStatistics.handle(modified(false, false, false, true));
+
+        assertCounts(10, 6, 6);
+
+        // 제목만 수정
+        questionStatistics.handle(modified(true, true, true, true));
+
+        assertCounts(10, 6, 6);
+    }
+
+    @Test
+    void reconcileCorrectsDrift() {
+        questionStatistics.seed();
+
+        // 롤백 등으로 이벤트가 빠져 DB 와 어긋난 상황
+        questionStatistics.handle(created(true, true));
+        givenDb(9, 7, 4);
+
+        questionStatistics.reconcile();
+
+        assertCounts(9, 7, 4);
+
+        // 어긋남이 없으면 그대로 둔다.
+        questionStatistics.reconcile();
+
+        assertCounts(9, 7, 4);
+    }
+
+    private void givenDb(long total, long published, long listed) {
+        when(questionRepository.count()).thenReturn(total);
+        when(questionRepository.countByPublished(true)).thenReturn(published);
+        when(questionRepository.countByListed(true)).thenReturn(listed);
+    }
+
+    private void assertCounts(long total, long published, long listed) {
+        assertThat(questionStatistics.getTotalQuestionCount()).isEqualTo(total);
+        assertThat(questionStatistics.getTotalPublishedCount()).isEqualTo(published);
+        assertThat(questionStatistics.getTotalListedCount()).isEqualTo(listed);
+    }
+
+    private static QuestionChangedEvent created(boolean published, boolean listed) {
+        return new QuestionChangedEvent(1, null, snapshot(published, listed));
+    }
+
+    private static QuestionChangedEvent deleted(boolean published, boolean listed) {
+        return new QuestionChangedEvent(1, snapshot(published, listed), null);
+    }
+
+    private static QuestionChangedEvent modified(boolean publishedBefore, boolean listedBefore, boolean publishedAfter, boolean listedAfter) {
+        return QuestionChangedEvent.modified(1, snapshot(publishedBefore, listedBefore), snapshot(publishedAfter, listedAfter));
+    }
+
+    private static QuestionChangedEvent.Snapshot snapshot(boolean published, boolean listed) {
+        return new QuestionChangedEvent.Snapshot("제목", "내용", published, listed);
+    }
+
+}
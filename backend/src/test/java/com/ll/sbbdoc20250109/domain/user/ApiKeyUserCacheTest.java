@@ -0,0 +1,87 @@
+package com.ll.sbbdoc20250109.domain.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// apiKey 로 찾은 회원을 캐시하고, 회원이 바뀌면 apiKey 가 아닌 회원 id 로 항목을 지우는지 확인한다.
+class ApiKeyUserCacheTest {
+
+    private ApiKeyUserCache apiKeyUserCache;
+
+    private final Map<String, SiteUser> usersByApiKey = new ConcurrentHashMap<>();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        apiKeyUserCache = new ApiKeyUserCache();
+
+        ReflectionTestUtils.setField(apiKeyUserCache, "maxSize", 100);
+        ReflectionTestUtils.setField(apiKeyUserCache, "ttlSeconds", 600L);
+
+        apiKeyUserCache.init();
+
+        usersByApiKey.put("apiKey1", user(1, "user1", "apiKey1"));
+        usersByApiKey.put("apiKey2", user(2, "user2", "apiKey2"));
+    }
+
+    @Test
+    void cachesByApiKey() {
+        assertThat(get("apiKey1")).get().extracting(ApiKeyUserCache.CachedUser::username).isEqualTo("user1");
+        assertThat(get("apiKey1")).isPresent();
+
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void unknownApiKeyIsNotCached() {
+        assertThat(get("unknown")).isEmpty();
+        assertThat(get("unknown")).isEmpty();
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    void siteUserChangedEventEvictsByUserId() {
+        get("apiKey1");
+        get("apiKey2");
+
+        // apiKey 가 바뀐 경우: 옛 apiKey 로는 더 이상 찾을 수 없어야 한다.
+        usersByApiKey.remove("apiKey1");
+        usersByApiKey.put("newApiKey1", user(1, "user1", "newApiKey1"));
+
+        apiKeyUserCache.handle(new SiteUserChangedEvent(1));
+
+        assertThat(get("apiKey1")).isEmpty();
+        assertThat(get("newApiKey1")).get().extracting(ApiKeyUserCache.CachedUser::apiKey).isEqualTo("newApiKey1");
+
+        // 다른 회원의 항목은 그대로 남는다.
+        int loadCountBefore = loadCount.get();
+
+        assertThat(get("apiKey2")).isPresent();
+        assertThat(loadCount).hasValue(loadCountBefore);
+    }
+
+    private Optional<ApiKeyUserCache.CachedUser> get(String apiKey) {
+        return apiKeyUserCache.get(apiKey, key -> {
+            loadCount.incrementAndGet();
+
+            return Optional.ofNullable(usersByApiKey.get(key));
+        });
+    }
+
+    private static SiteUser user(long id, String username, String apiKey) {
+        SiteUser user = new SiteUser(id, username);
+        user.setApiKey(apiKey);
+
+        return user;
+    }
+
+}
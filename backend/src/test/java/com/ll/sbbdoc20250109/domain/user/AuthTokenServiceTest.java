@@ -0,0 +1,97 @@
+package com.ll.sbbdoc20250109.domain.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서명 검증이 끝난 토큰을 exp 까지만 캐시하고, 변조된 토큰은 캐시로 통과하지 못하는지 확인한다.
+class AuthTokenServiceTest {
+
+    private static final String SECRET = "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private AuthTokenService authTokenService;
+    private SiteUser user;
+
+    @BeforeEach
+    void setUp() {
+        authTokenService = authTokenService(60 * 20);
+
+        user = SiteUser.builder().username("user1").build();
+        ReflectionTestUtils.setField(user, "id", 3L);
+    }
+
+    @Test
+    void verifiedTokenIsCached() {
+        String accessToken = authTokenService.genAccessToken(user);
+
+        Map<String, Object> payload = authTokenService.payload(accessToken);
+
+        assertThat(payload).containsEntry("id", 3L).containsEntry("username", "user1");
+        assertThat(authTokenService.payload(accessToken)).isSameAs(payload);
+
+        assertThat(authTokenService.getVerifiedTokenCacheStats().hitCount()).isEqualTo(1);
+        assertThat(authTokenService.getVerifiedTokenCacheStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void tamperedTokenMissesCache() {
+        String accessToken = authTokenService.genAccessToken(user);
+
+        assertThat(authTokenService.payload(accessToken)).isNotNull();
+
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(authTokenService.payload(tampered)).isNull();
+        assertThat(authTokenService.payload(tampered)).isNull();
+
+        assertThat(authTokenService.getVerifiedTokenCacheStats().hitCount()).isZero();
+        assertThat(authTokenService.getVerifiedTokenCacheStats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedPayloadExpiresWithToken() throws InterruptedException {
+        authTokenService = authTokenService(1);
+
+        String accessToken = authTokenService.genAccessToken(user);
+
+        assertThat(authTokenService.payload(accessToken)).isNotNull();
+
+        // exp 는 초 단위로 잘리므로 넉넉히 기다린다.
+        Thread.sleep(2_000);
+
+        assertThat(authTokenService.payload(accessToken)).isNull();
+        assertThat(authTokenService.getVerifiedTokenCacheStats().hitCount()).isZero();
+    }
+
+    @Test
+    void purgeExpiredVerifiedTokens() throws InterruptedException {
+        authTokenService = authTokenService(1);
+
+        authTokenService.payload(authTokenService.genAccessToken(user));
+
+        assertThat(authTokenService.getVerifiedTokenCacheStats().size()).isEqualTo(1);
+
+        Thread.sleep(2_000);
+
+        authTokenService.purgeExpiredVerifiedTokens();
+
+        assertThat(authTokenService.getVerifiedTokenCacheStats().size()).isZero();
+    }
+
+    private static AuthTokenService authTokenService(long accessTokenExpirationSeconds) {
+        AuthTokenService authTokenService = new AuthTokenService();
+
+        ReflectionTestUtils.setField(authTokenService, "jwtSecretKey", SECRET);
+        ReflectionTestUtils.setField(authTokenService, "accessTokenExpirationSeconds", accessTokenExpirationSeconds);
+        ReflectionTestUtils.setField(authTokenService, "verifiedCacheMaxSize", 100);
+
+        authTokenService.init();
+
+        return authTokenService;
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.ll.sbbdoc20250109.global.app;
+
+import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ServiceException 의 stack trace 설정이 프로필과 environment 유무에 따라 정해지는지 확인한다.
+// AppConfig 는 정적 상태를 쓰므로 다른 테스트의 스프링 컨텍스트가 넣어 둔 값을 되돌려 놓는다.
+class AppConfigTest {
+
+    private Environment savedEnvironment;
+    private boolean savedServiceExceptionStackTrace;
+
+    @BeforeEach
+    void saveState() {
+        savedEnvironment = (Environment) ReflectionTestUtils.getField(AppConfig.class, "environment");
+        savedServiceExceptionStackTrace = (boolean) ReflectionTestUtils.getField(AppConfig.class, "serviceExceptionStackTrace");
+    }
+
+    @AfterEach
+    void restoreState() {
+        ReflectionTestUtils.setField(AppConfig.class, "environment", savedEnvironment);
+        ReflectionTestUtils.setField(AppConfig.class, "serviceExceptionStackTrace", savedServiceExceptionStackTrace);
+    }
+
+    @Test
+    void withoutEnvironmentStackTraceIsOff() {
+        configure(null, true);
+
+        assertThat(AppConfig.isProd()).isFalse();
+        assertThat(AppConfig.isServiceExceptionStackTrace()).isFalse();
+        assertThat(new ServiceException("404-1", "없음").getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void stackTraceFollowsSettingOutsideProd() {
+        configure(environment("dev"), true);
+
+        assertThat(AppConfig.isServiceExceptionStackTrace()).isTrue();
+        assertThat(new ServiceException("404-1", "없음").getStackTrace()).isNotEmpty();
+
+        configure(environment("dev"), false);
+
+        assertThat(AppConfig.isServiceExceptionStackTrace()).isFalse();
+        assertThat(new ServiceException("404-1", "없음").getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void prodIgnoresSetting() {
+        configure(environment("prod"), true);
+
+        assertThat(AppConfig.isProd()).isTrue();
+        assertThat(AppConfig.isServiceExceptionStackTrace()).isFalse();
+    }
+
+    private static void configure(Environment environment, boolean serviceExceptionStackTrace) {
+        AppConfig appConfig = new AppConfig();
+
+        appConfig.setEnvironment(environment);
+        appConfig.setServiceExceptionStackTrace(serviceExceptionStackTrace);
+    }
+
+    private static Environment environment(String profile) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles(profile);
+
+        return environment;
+    }
+
+}
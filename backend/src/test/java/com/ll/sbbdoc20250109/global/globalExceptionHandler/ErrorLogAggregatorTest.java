@@ -0,0 +1,116 @@
+package com.ll.sbbdoc20250109.global.globalExceptionHandler;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// resultCode 별로 로그를 intervalSeconds 에 한 줄만 남기고, 생략한 건수와 전체 건수를 집계하는지 확인한다.
+class ErrorLogAggregatorTest {
+
+    private ErrorLogAggregator errorLogAggregator;
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        errorLogAggregator = new ErrorLogAggregator();
+        ReflectionTestUtils.setField(errorLogAggregator, "intervalSeconds", 60L);
+
+        logger = (Logger) LoggerFactory.getLogger(ErrorLogAggregator.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void logsOncePerIntervalPerResultCode() {
+        record("404-1", "글이 없습니다.");
+        record("404-1", "글이 없습니다.");
+        record("404-1", "글이 없습니다.");
+        record("403-1", "권한이 없습니다.");
+
+        assertThat(appender.list)
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly(
+                        "[404-1] 404-1 : 글이 없습니다. (생략 0건)",
+                        "[403-1] 403-1 : 권한이 없습니다. (생략 0건)"
+                );
+    }
+
+    @Test
+    void nextLogReportsSuppressedCount() {
+        record("404-1", "글이 없습니다.");
+        record("404-1", "글이 없습니다.");
+        record("404-1", "글이 없습니다.");
+
+        // 간격이 지난 것으로 보고 다음 기록을 남기게 한다.
+        ReflectionTestUtils.setField(errorLogAggregator, "intervalSeconds", 0L);
+
+        record("404-1", "댓글이 없습니다.");
+
+        assertThat(appender.list).hasSize(2);
+        assertThat(appender.list.getLast().getFormattedMessage()).isEqualTo("[404-1] 404-1 : 댓글이 없습니다. (생략 2건)");
+    }
+
+    @Test
+    void reportCountsEveryRecord() {
+        record("404-1", "글이 없습니다.");
+        record("404-1", "댓글이 없습니다.");
+        record("400-1", "잘못된 요청입니다.");
+
+        assertThat(errorLogAggregator.report().items())
+                .extracting(ErrorLogAggregator.Item::resultCode, ErrorLogAggregator.Item::count, ErrorLogAggregator.Item::lastMessage)
+                .containsExactly(
+                        tuple("400-1", 1L, "400-1 : 잘못된 요청입니다."),
+                        tuple("404-1", 2L, "404-1 : 댓글이 없습니다.")
+                );
+    }
+
+    @Test
+    void prometheus() {
+        record("404-1", "글이 없습니다.");
+        record("404-1", "글이 없습니다.");
+        record("500-\"1\"", "알 수 없는 오류");
+
+        assertThat(errorLogAggregator.prometheus()).isEqualTo("""
+                # HELP app_errors_total Error responses by resultCode.
+                # TYPE app_errors_total counter
+                app_errors_total{result_code="404-1"} 2
+                app_errors_total{result_code="500-\\"1\\""} 1
+                """);
+    }
+
+    @Test
+    void reset() {
+        record("404-1", "글이 없습니다.");
+
+        errorLogAggregator.reset();
+
+        assertThat(errorLogAggregator.report().items()).isEmpty();
+
+        // 비운 뒤에는 같은 resultCode 도 다시 바로 남긴다.
+        record("404-1", "글이 없습니다.");
+
+        assertThat(appender.list).hasSize(2);
+    }
+
+    private void record(String resultCode, String msg) {
+        errorLogAggregator.record(resultCode, new ServiceException(resultCode, msg));
+    }
+
+}
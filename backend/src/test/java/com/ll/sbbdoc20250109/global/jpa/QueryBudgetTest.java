@@ -0,0 +1,300 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+// domain.question / answer / user 의 엔드포인트마다 요청별 SQL 문 개수가 @QueryBudget 이내이고
+// N+1 로 의심되는 반복 select 가 없는지 확인한다.
+// SQL 주석(hibernate.use_sql_comments)을 켠 상태로 돌려 주석이 붙은 select 도 세는지 함께 확인한다.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.use_sql_comments=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    private static final List<String> CHECKED_PACKAGES = List.of(
+            "com.ll.sbbdoc20250109.domain.question",
+            "com.ll.sbbdoc20250109.domain.answer",
+            "com.ll.sbbdoc20250109.domain.user"
+    );
+
+    private static final String QUESTION_BODY = """
+            {"subject": "쿼리 개수 확인", "content": "쿼리 개수 확인용 글", "published": true, "listed": true}
+            """;
+
+    private static final String ANSWER_BODY = """
+            {"content": "저요!"}
+            """;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Value("${custom.queryBudget.repeatedSelectThreshold}")
+    private int repeatedSelectThreshold;
+
+    private final Set<Method> coveredHandlers = new HashSet<>();
+
+    // 글
+
+    @Test
+    void questionList() throws Exception {
+        RequestQueryStats stats = perform(get("/api/v1/question_list").param("page", "2"));
+
+        // 주석이 붙은 select 도 select 로 집계되어야 N+1 검사가 의미가 있다.
+        assertThat(stats.repeatedSelects(1)).isNotEmpty();
+    }
+
+    @Test
+    void questionCursorList() throws Exception {
+        perform(get("/api/v1/question_list").param("limit", "5"));
+    }
+
+    @Test
+    void questionCreate() throws Exception {
+        perform(
+                post("/api/v1/question_list")
+                        .header("Authorization", authorization("user1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(QUESTION_BODY)
+        );
+    }
+
+    @Test
+    void questionDetail() throws Exception {
+        perform(get("/api/v1/question_list/%d".formatted(createQuestion())));
+    }
+
+    @Test
+    void questionModify() throws Exception {
+        perform(
+                put("/api/v1/question_list/%d".formatted(createQuestion()))
+                        .header("Authorization", authorization("user1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"subject": "쿼리 개수 확인 수정", "content": "쿼리 개수 확인용 글 수정", "published": true, "listed": true}
+                                """)
+        );
+    }
+
+    @Test
+    void questionStatistics() throws Exception {
+        perform(get("/api/v1/question_list/statistics").header("Authorization", authorization("admin")));
+    }
+
+    @Test
+    void questionDelete() throws Exception {
+        perform(delete("/api/v1/question_list/%d".formatted(createQuestion())).header("Authorization", authorization("user1")));
+    }
+
+    // 댓글
+
+    @Test
+    void answerCreate() throws Exception {
+        perform(
+                post(answerListUrl(createQuestion()))
+                        .header("Authorization", authorization("user2"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ANSWER_BODY)
+        );
+    }
+
+    @Test
+    void answerList() throws Exception {
+        long questionId = createQuestion();
+        createAnswer(questionId);
+
+        perform(get(answerListUrl(questionId)));
+    }
+
+    @Test
+    void answerCursorList() throws Exception {
+        long questionId = createQuestion();
+        createAnswer(questionId);
+
+        perform(get(answerListUrl(questionId)).param("limit", "5"));
+    }
+
+    @Test
+    void answerModify() throws Exception {
+        long questionId = createQuestion();
+        long answerId = createAnswer(questionId);
+
+        perform(
+                put(answerListUrl(questionId) + "/" + answerId)
+                        .header("Authorization", authorization("user2"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"content": "저도요!"}
+                                """)
+        );
+    }
+
+    @Test
+    void answerDelete() throws Exception {
+        long questionId = createQuestion();
+        long answerId = createAnswer(questionId);
+
+        perform(delete(answerListUrl(questionId) + "/" + answerId).header("Authorization", authorization("user2")));
+    }
+
+    // 회원
+
+    @Test
+    void userSignUp() throws Exception {
+        String username = "budget" + System.nanoTime() % 1_000_000;
+
+        perform(
+                post("/api/v1/user/sign-up")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "%s", "password": "1234", "nickname": "예산", "email": "%s@test.com"}
+                                """.formatted(username, username))
+        );
+    }
+
+    @Test
+    void userLogin() throws Exception {
+        perform(
+                post("/api/v1/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "user1", "password": "1234"}
+                                """)
+        );
+    }
+
+    @Test
+    void userLogout() throws Exception {
+        perform(delete("/api/v1/user/logout"));
+    }
+
+    @Test
+    void userProfile() throws Exception {
+        perform(get("/api/v1/user/profile").header("Authorization", authorization("user1")));
+    }
+
+    @Test
+    void userMyList() throws Exception {
+        perform(get("/api/v1/user/profile/my-list").header("Authorization", authorization("user1")));
+    }
+
+    @Test
+    void userMyCursorList() throws Exception {
+        perform(get("/api/v1/user/profile/my-list").param("limit", "5").header("Authorization", authorization("user1")));
+    }
+
+    // 클래스 전체를 실행했을 때 빠진 엔드포인트가 없는지 확인한다.
+    @AfterAll
+    void everyEndpointIsChecked() {
+        assertThat(coveredHandlers)
+                .as("호출하지 않은 엔드포인트가 있습니다.")
+                .containsAll(checkedHandlers());
+    }
+
+    // 준비용 요청은 예산을 확인하지 않는다.
+    private long createQuestion() throws Exception {
+        return dataId(mvc.perform(
+                post("/api/v1/question_list")
+                        .header("Authorization", authorization("user1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(QUESTION_BODY)
+        ).andReturn());
+    }
+
+    private long createAnswer(long questionId) throws Exception {
+        return dataId(mvc.perform(
+                post(answerListUrl(questionId))
+                        .header("Authorization", authorization("user2"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ANSWER_BODY)
+        ).andReturn());
+    }
+
+    private static String answerListUrl(long questionId) {
+        return "/api/v1/question_list/%d/answer_list".formatted(questionId);
+    }
+
+    // 액세스 토큰이 유효하지 않으므로 apiKey 로 재발급하는 경로까지 함께 측정된다.
+    private String authorization(String apiKey) {
+        return "Bearer " + apiKey + " invalid";
+    }
+
+    private RequestQueryStats perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mvc.perform(request).andReturn();
+
+        assertThat(result.getResponse().getStatus())
+                .as(result.getResponse().getContentAsString())
+                .isLessThan(400);
+
+        RequestQueryStats stats = (RequestQueryStats) result.getRequest().getAttribute(RequestQueryStats.ATTRIBUTE);
+
+        assertThat(stats).isNotNull();
+
+        if (stats.getBudget() >= 0) {
+            assertThat(stats.getStatementCount())
+                    .as(stats.getEndpoint())
+                    .isLessThanOrEqualTo(stats.getBudget());
+        }
+
+        assertThat(stats.repeatedSelects(repeatedSelectThreshold))
+                .as(stats.getEndpoint())
+                .isEmpty();
+
+        HandlerMethod handlerMethod = (HandlerMethod) result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        coveredHandlers.add(handlerMethod.getMethod());
+
+        return stats;
+    }
+
+    private long dataId(MvcResult result) throws Exception {
+        return objectMapper
+                .readTree(result.getResponse().getContentAsString())
+                .path("data")
+                .path("id")
+                .asLong();
+    }
+
+    private Set<Method> checkedHandlers() {
+        Set<Method> handlers = new HashSet<>();
+
+        handlerMapping.getHandlerMethods().values().forEach(handlerMethod -> {
+            String packageName = handlerMethod.getBeanType().getPackageName();
+
+            if (CHECKED_PACKAGES.stream().anyMatch(packageName::startsWith))
+                handlers.add(handlerMethod.getMethod());
+        });
+
+        return handlers;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// hibernate.use_sql_comments 로 앞에 주석이 붙은 SQL 도 select 로 판단하는지 확인한다.
+class QueryCountStatementInspectorTest {
+
+    @Test
+    void isSelect() {
+        assertThat(QueryCountStatementInspector.isSelect("select q1_0.id from question q1_0")).isTrue();
+        assertThat(QueryCountStatementInspector.isSelect("  \n SELECT 1")).isTrue();
+        assertThat(QueryCountStatementInspector.isSelect("/* <criteria> */ select q1_0.id from question q1_0")).isTrue();
+        assertThat(QueryCountStatementInspector.isSelect("/* a */\n/* b */\n    select 1")).isTrue();
+        assertThat(QueryCountStatementInspector.isSelect("-- comment\nselect 1")).isTrue();
+    }
+
+    @Test
+    void isNotSelect() {
+        assertThat(QueryCountStatementInspector.isSelect("/* insert com.ll.Question */ insert into question values (?)")).isFalse();
+        assertThat(QueryCountStatementInspector.isSelect("update question set answer_count = answer_count + ?")).isFalse();
+        assertThat(QueryCountStatementInspector.isSelect("/* select in comment */ delete from question")).isFalse();
+        assertThat(QueryCountStatementInspector.isSelect("/* unterminated select")).isFalse();
+        assertThat(QueryCountStatementInspector.isSelect("")).isFalse();
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리터럴 / IN 목록을 걷어낸 지문으로 묶는지, 지문 개수 상한을 넘으면 (other) 로 모으는지 확인한다.
+class SqlStatsRegistryTest {
+
+    private SqlStatsRegistry sqlStatsRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sqlStatsRegistry = new SqlStatsRegistry();
+
+        ReflectionTestUtils.setField(sqlStatsRegistry, "slowQueryMillis", 100_000L);
+        ReflectionTestUtils.setField(sqlStatsRegistry, "maxFingerprints", 2);
+        ReflectionTestUtils.setField(sqlStatsRegistry, "maxBindLength", 100);
+    }
+
+    @Test
+    void fingerprintReplacesLiterals() {
+        assertThat(SqlStatsRegistry.fingerprint("select * from question where id = 12 and score > 3.5"))
+                .isEqualTo("select * from question where id = ? and score > ?");
+        assertThat(SqlStatsRegistry.fingerprint("select * from site_user where username = 'it''s' or nickname = ''"))
+                .isEqualTo("select * from site_user where username = ? or nickname = ?");
+    }
+
+    @Test
+    void fingerprintKeepsIdentifiersWithDigits() {
+        assertThat(SqlStatsRegistry.fingerprint("select q1_0.id from question q1_0 where q1_0.id = 7"))
+                .isEqualTo("select q1_0.id from question q1_0 where q1_0.id = ?");
+    }
+
+    @Test
+    void fingerprintCollapsesInLists() {
+        assertThat(SqlStatsRegistry.fingerprint("select * from answer where question_id in (?, ?, ?)"))
+                .isEqualTo("select * from answer where question_id in (?)");
+        assertThat(SqlStatsRegistry.fingerprint("select * from answer where question_id IN (1,2, 3)"))
+                .isEqualTo("select * from answer where question_id in (?)");
+        assertThat(SqlStatsRegistry.fingerprint("select * from answer where question_id in ('a', 'b')"))
+                .isEqualTo("select * from answer where question_id in (?)");
+    }
+
+    @Test
+    void fingerprintNormalizesWhitespace() {
+        assertThat(SqlStatsRegistry.fingerprint("  select *\n    from question\twhere id = ?  "))
+                .isEqualTo("select * from question where id = ?");
+    }
+
+    @Test
+    void sameFingerprintIsAggregated() {
+        record("select * from question where id = 1", 3);
+        record("select * from question where id = 2", 4);
+
+        SqlStatsRegistry.Report report = sqlStatsRegistry.report(SqlStatsRegistry.Sort.count, 10);
+
+        assertThat(report.fingerprintCount()).isEqualTo(1);
+        assertThat(report.top()).singleElement().satisfies(row -> {
+            assertThat(row.fingerprint()).isEqualTo("select * from question where id = ?");
+            assertThat(row.count()).isEqualTo(2);
+            assertThat(row.maxMillis()).isEqualTo(4);
+            assertThat(row.rows()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void fingerprintsOverLimitGoToOther() {
+        record("select * from question", 1);
+        record("select * from answer", 1);
+        record("select * from site_user", 1);
+        record("select * from question_voter", 1);
+        // 이미 있는 지문은 상한을 넘은 뒤에도 제자리에 모인다.
+        record("select * from question", 1);
+
+        List<SqlStatsRegistry.Row> top = sqlStatsRegistry.report(SqlStatsRegistry.Sort.count, 10).top();
+
+        assertThat(top).extracting(SqlStatsRegistry.Row::fingerprint)
+                .containsExactlyInAnyOrder("select * from question", "select * from answer", SqlStatsRegistry.OTHER_FINGERPRINT);
+        assertThat(count(top, SqlStatsRegistry.OTHER_FINGERPRINT)).isEqualTo(2);
+        assertThat(count(top, "select * from question")).isEqualTo(2);
+    }
+
+    @Test
+    void reset() {
+        record("select * from question", 1);
+
+        sqlStatsRegistry.reset();
+
+        assertThat(sqlStatsRegistry.report(SqlStatsRegistry.Sort.total, 10).fingerprintCount()).isZero();
+    }
+
+    private void record(String sql, long elapsedMillis) {
+        sqlStatsRegistry.record(sql, null, "-", elapsedMillis * 1_000_000, 1);
+    }
+
+    private static long count(List<SqlStatsRegistry.Row> rows, String fingerprint) {
+        return rows.stream()
+                .filter(row -> row.fingerprint().equals(fingerprint))
+                .findFirst()
+                .orElseThrow()
+                .count();
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.ll.sbbdoc20250109.global.jpa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 메모리 DB 로 select 는 읽은 행 수를, update 는 바뀐 행 수를 기록하는지 확인한다.
+class StatementTimingDataSourceTest {
+
+    private SqlStatsRegistry sqlStatsRegistry;
+    private StatementTimingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        sqlStatsRegistry = new SqlStatsRegistry();
+
+        ReflectionTestUtils.setField(sqlStatsRegistry, "slowQueryMillis", 100_000L);
+        ReflectionTestUtils.setField(sqlStatsRegistry, "maxFingerprints", 500);
+        ReflectionTestUtils.setField(sqlStatsRegistry, "maxBindLength", 100);
+
+        dataSource = new StatementTimingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:statementTimingDataSourceTest;DB_CLOSE_DELAY=-1", "sa", ""),
+                sqlStatsRegistry
+        );
+
+        try (Connection connection = dataSource.getTargetDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table question (id bigint primary key, subject varchar(200))");
+            statement.execute("insert into question select x, '제목 ' || x from system_range(1, 10)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getTargetDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table question");
+        }
+    }
+
+    @Test
+    void countsRowsReadUntilResultSetIsClosed() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id from question where id <= ?")) {
+            statement.setLong(1, 4);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) resultSet.getLong(1);
+            }
+
+            assertThat(onlyRow().rows()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void countsRowsWhenStatementIsClosedBeforeResultSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement statement = connection.prepareStatement("select id from question");
+            ResultSet resultSet = statement.executeQuery();
+
+            resultSet.next();
+            resultSet.next();
+
+            statement.close();
+        }
+
+        assertThat(onlyRow().rows()).isEqualTo(2);
+    }
+
+    @Test
+    void countsUpdatedRows() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("update question set subject = ? where id > ?")) {
+            statement.setString(1, "수정");
+            statement.setLong(2, 7);
+
+            assertThat(statement.executeUpdate()).isEqualTo(3);
+        }
+
+        assertThat(onlyRow().rows()).isEqualTo(3);
+    }
+
+    @Test
+    void unwrapsToDriverResultSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select id from question")) {
+            assertThat(resultSet).isInstanceOf(RowCountingResultSet.class);
+            assertThat(resultSet.unwrap(ResultSet.class)).isNotInstanceOf(RowCountingResultSet.class);
+        }
+    }
+
+    private SqlStatsRegistry.Row onlyRow() {
+        SqlStatsRegistry.Report report = sqlStatsRegistry.report(SqlStatsRegistry.Sort.count, 10);
+
+        assertThat(report.top()).hasSize(1);
+
+        return report.top().getFirst();
+    }
+
+}
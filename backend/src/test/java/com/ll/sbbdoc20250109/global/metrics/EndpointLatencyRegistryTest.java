@@ -0,0 +1,136 @@
+package com.ll.sbbdoc20250109.global.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 상태 코드별 집계와, Prometheus summary 의 분위수 / _sum / _count / _max 가 서로 맞는지 확인한다.
+class EndpointLatencyRegistryTest {
+
+    private static final String METRIC = "http_server_request_duration_seconds";
+
+    @RequestMapping("/api/v1/samples")
+    static class SampleController {
+        @GetMapping("/{id}")
+        void item() {
+        }
+    }
+
+    private EndpointLatencyRegistry registry;
+    private Method handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        registry = new EndpointLatencyRegistry();
+        handler = SampleController.class.getDeclaredMethod("item");
+    }
+
+    @Test
+    void reportGroupsByStatus() {
+        recordMillis(200, 10, 20, 30);
+        recordMillis(404, 5);
+        // 범위를 벗어난 상태 코드는 500 으로 센다.
+        recordMillis(42, 1);
+
+        EndpointLatencyRegistry.EndpointReport endpoint = registry.report().endpoints().getFirst();
+
+        assertThat(endpoint.endpoint()).isEqualTo("GET /api/v1/samples/{id}");
+        assertThat(endpoint.handler()).isEqualTo("SampleController.item");
+        assertThat(endpoint.count()).isEqualTo(5);
+        assertThat(endpoint.clientErrorRate()).isEqualTo(0.2);
+        assertThat(endpoint.serverErrorRate()).isEqualTo(0.2);
+        assertThat(endpoint.statuses())
+                .extracting(EndpointLatencyRegistry.StatusReport::status, EndpointLatencyRegistry.StatusReport::count)
+                .containsExactly(
+                        tuple(200, 3L),
+                        tuple(404, 1L),
+                        tuple(500, 1L)
+                );
+        assertThat(endpoint.statuses().getFirst().meanMs()).isEqualTo(20);
+        assertThat(endpoint.statuses().getFirst().maxMs()).isEqualTo(30);
+    }
+
+    @Test
+    void prometheusSummaryIsConsistent() {
+        recordMillis(200, 10, 20, 30, 40);
+        recordMillis(404, 5);
+
+        Map<String, Double> samples = samples(registry.prometheus());
+
+        assertSeries(samples, "200", 4, 0.1, 0.04);
+        assertSeries(samples, "404", 1, 0.005, 0.005);
+    }
+
+    @Test
+    void prometheusDeclaresTypes() {
+        recordMillis(200, 10);
+
+        String prometheus = registry.prometheus();
+
+        assertThat(prometheus).contains("# TYPE " + METRIC + " summary\n");
+        assertThat(prometheus).contains("# TYPE " + METRIC + "_max gauge\n");
+        assertThat(prometheus).contains(METRIC + "{" + labels("200") + ",quantile=\"0.999\"} ");
+    }
+
+    @Test
+    void reset() {
+        recordMillis(200, 10);
+
+        registry.reset();
+
+        assertThat(registry.report().endpoints()).isEmpty();
+        assertThat(samples(registry.prometheus())).isEmpty();
+    }
+
+    private void assertSeries(Map<String, Double> samples, String status, long count, double sumSeconds, double maxSeconds) {
+        String labels = labels(status);
+
+        assertThat(samples.get(METRIC + "_count{" + labels + "}")).isEqualTo(count);
+        assertThat(samples.get(METRIC + "_sum{" + labels + "}")).isCloseTo(sumSeconds, offset(1e-9));
+        assertThat(samples.get(METRIC + "_max{" + labels + "}")).isCloseTo(maxSeconds, offset(1e-9));
+
+        // 분위수는 커지는 순서이고 최대값을 넘지 않는다.
+        List<Double> quantiles = new ArrayList<>();
+
+        for (String quantile : List.of("0.5", "0.9", "0.99", "0.999"))
+            quantiles.add(samples.get(METRIC + "{" + labels + ",quantile=\"" + quantile + "\"}"));
+
+        assertThat(quantiles).doesNotContainNull().isSorted();
+        assertThat(quantiles.getLast()).isLessThanOrEqualTo(samples.get(METRIC + "_max{" + labels + "}"));
+    }
+
+    private void recordMillis(int status, long... millis) {
+        for (long value : millis) registry.record(handler, status, value * 1_000_000);
+    }
+
+    private static String labels(String status) {
+        return "endpoint=\"GET /api/v1/samples/{id}\",handler=\"SampleController.item\",status=\"%s\"".formatted(status);
+    }
+
+    // "이름{레이블} 값" 줄을 모은다.
+    private static Map<String, Double> samples(String prometheus) {
+        Map<String, Double> samples = new HashMap<>();
+
+        for (String line : prometheus.split("\n")) {
+            if (line.isBlank() || line.startsWith("#")) continue;
+
+            int separator = line.lastIndexOf(' ');
+
+            samples.put(line.substring(0, separator), Double.parseDouble(line.substring(separator + 1)));
+        }
+
+        return samples;
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.ll.sbbdoc20250109.global.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 버킷 경계(2의 거듭제곱마다 8개 하위 버킷)와 분위수 오차(12.5% 이내)를 확인한다.
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesHaveOwnBuckets() {
+        for (int value = 0; value < 8; value++) {
+            assertThat(LatencyHistogram.bucketIndex(value)).isEqualTo(value);
+            assertThat(LatencyHistogram.bucketUpperBound(value)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void bucketBoundaries() {
+        // 8 ~ 15: 폭 1
+        assertThat(LatencyHistogram.bucketIndex(8)).isEqualTo(8);
+        assertThat(LatencyHistogram.bucketIndex(15)).isEqualTo(15);
+
+        // 16 ~ 31: 폭 2
+        assertThat(LatencyHistogram.bucketIndex(16)).isEqualTo(16);
+        assertThat(LatencyHistogram.bucketIndex(17)).isEqualTo(16);
+        assertThat(LatencyHistogram.bucketIndex(18)).isEqualTo(17);
+        assertThat(LatencyHistogram.bucketIndex(31)).isEqualTo(23);
+        assertThat(LatencyHistogram.bucketUpperBound(16)).isEqualTo(17);
+        assertThat(LatencyHistogram.bucketUpperBound(23)).isEqualTo(31);
+
+        // 32 ~ 63: 폭 4
+        assertThat(LatencyHistogram.bucketIndex(32)).isEqualTo(24);
+        assertThat(LatencyHistogram.bucketIndex(35)).isEqualTo(24);
+        assertThat(LatencyHistogram.bucketIndex(36)).isEqualTo(25);
+        assertThat(LatencyHistogram.bucketUpperBound(24)).isEqualTo(35);
+    }
+
+    @Test
+    void everyValueFallsInsideItsBucket() {
+        int previousIndex = -1;
+
+        for (long value = 0; value <= 1 << 16; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+
+            // 버킷은 빠짐없이 차례로 이어진다.
+            assertThat(index).isBetween(previousIndex, previousIndex + 1);
+            assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+
+            if (index > 0) assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    void bucketWidthIsWithinRelativeError() {
+        for (int index = 8; index < LatencyHistogram.BUCKET_COUNT - 1; index++) {
+            long lower = LatencyHistogram.bucketUpperBound(index - 1) + 1;
+            long upper = LatencyHistogram.bucketUpperBound(index);
+
+            assertThat((double) (upper - lower + 1) / lower).isLessThanOrEqualTo(0.125);
+        }
+    }
+
+    @Test
+    void largeValuesGoToLastBucket() {
+        assertThat(LatencyHistogram.bucketIndex(1L << 41)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+        assertThat(LatencyHistogram.bucketIndex((1L << 41) - 1)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+        assertThat(LatencyHistogram.bucketIndex((1L << 40) - 1)).isLessThan(LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    void percentilesAreWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 1; value <= 10_000; value++) histogram.record(value);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // 분위수가 속한 버킷의 상한값을 돌려주므로 실제 값 이상, 12.5% 이내
+        assertPercentile(snapshot, 0.5, 5_000);
+        assertPercentile(snapshot, 0.9, 9_000);
+        assertPercentile(snapshot, 0.99, 9_900);
+        assertThat(snapshot.percentileMicros(0.999)).isBetween(9_990L, 10_000L);
+        assertThat(snapshot.percentileMicros(1)).isEqualTo(10_000);
+    }
+
+    @Test
+    void percentileNeverExceedsMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // 1000 은 960 ~ 1023 버킷에 들어가지만 최대값을 넘겨 답하지 않는다.
+        histogram.record(1_000);
+
+        assertThat(histogram.snapshot().percentileMicros(0.5)).isEqualTo(1_000);
+    }
+
+    @Test
+    void snapshotIsConsistent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(100);
+        histogram.record(300);
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(3).isEqualTo(Arrays.stream(snapshot.buckets()).sum());
+        assertThat(snapshot.totalMicros()).isEqualTo(400);
+        assertThat(snapshot.maxMicros()).isEqualTo(300);
+        assertThat(snapshot.meanMicros()).isEqualTo(400 / 3.0);
+        assertThat(snapshot.percentileMicros(0.1)).isZero();
+    }
+
+    @Test
+    void emptySnapshot() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.percentileMicros(0.99)).isZero();
+        assertThat(snapshot.meanMicros()).isZero();
+    }
+
+    private static void assertPercentile(LatencyHistogram.Snapshot snapshot, double quantile, long expected) {
+        assertThat(snapshot.percentileMicros(quantile))
+                .isGreaterThanOrEqualTo(expected)
+                .isLessThanOrEqualTo((long) (expected * 1.125));
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.ll.sbbdoc20250109.global.security;
+
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.SiteUserChangedEvent;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import com.ll.sbbdoc20250109.global.rq.Rq;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// 같은 apiKey 로 동시에 들어온 재발급 요청이 조회 / 발급을 한 번만 하고 결과를 나눠 갖는지,
+// 재사용 중인 토큰이 회원 변경 이벤트로 비워지는지 확인한다.
+class CustomAuthenticationFilterTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    private UserService userService;
+    private Rq rq;
+    private CustomAuthenticationFilter filter;
+
+    private final SiteUser user = new SiteUser(3, "user1");
+    private final AtomicInteger issuedCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        user.setApiKey("user1");
+
+        userService = mock(UserService.class);
+        rq = mock(Rq.class);
+
+        when(rq.getHeader("Authorization")).thenReturn("Bearer user1 expired");
+        when(userService.needsAccessTokenRefresh("expired")).thenReturn(true);
+        when(userService.genAccessToken(any())).thenAnswer(invocation -> "accessToken" + issuedCount.incrementAndGet());
+
+        filter = filter(5);
+    }
+
+    @Test
+    void concurrentRefreshesShareOneFuture() throws Exception {
+        // 재사용 캐시가 없어도(0초) 진행 중인 재발급은 공유해야 한다.
+        filter = filter(0);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(userService.findCachedByApiKey("user1")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+
+            return Optional.of(user);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+
+        try {
+            List<Thread> threads = new ArrayList<>();
+            List<Future<?>> requests = new ArrayList<>();
+
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                requests.add(executor.submit(() -> {
+                    synchronized (threads) {
+                        threads.add(Thread.currentThread());
+                    }
+
+                    doFilter();
+
+                    return null;
+                }));
+            }
+
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 조회 중인 한 요청을 뺀 나머지가 모두 진행 중인 재발급을 기다릴 때까지 둔다.
+            awaitWaiting(threads);
+
+            release.countDown();
+
+            for (Future<?> request : requests) request.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(userService, times(1)).findCachedByApiKey("user1");
+        assertThat(issuedCount).hasValue(1);
+
+        verify(rq, times(CONCURRENT_REQUESTS)).setCookie("accessToken", "accessToken1");
+        verify(rq, times(CONCURRENT_REQUESTS)).setLogin(user);
+    }
+
+    @Test
+    void refreshedTokenIsReusedUntilSiteUserChanges() throws Exception {
+        when(userService.findCachedByApiKey("user1")).thenReturn(Optional.of(user));
+
+        doFilter();
+        doFilter();
+
+        verify(userService, times(1)).findCachedByApiKey("user1");
+        verify(rq, times(2)).setCookie("accessToken", "accessToken1");
+
+        filter.handle(new SiteUserChangedEvent(user.getId()));
+
+        doFilter();
+
+        verify(userService, times(2)).findCachedByApiKey("user1");
+        verify(rq).setCookie("accessToken", "accessToken2");
+    }
+
+    @Test
+    void unknownApiKeyIsAnonymous() throws Exception {
+        when(userService.findCachedByApiKey(anyString())).thenReturn(Optional.empty());
+
+        doFilter();
+
+        verify(rq, never()).setLogin(any());
+        verify(rq, never()).setCookie(anyString(), anyString());
+    }
+
+    private CustomAuthenticationFilter filter(long refreshReuseSeconds) {
+        CustomAuthenticationFilter filter = new CustomAuthenticationFilter(userService, rq);
+
+        ReflectionTestUtils.setField(filter, "refreshReuseSeconds", refreshReuseSeconds);
+        ReflectionTestUtils.setField(filter, "refreshReuseMaxSize", 100);
+
+        filter.init();
+
+        return filter;
+    }
+
+    private void doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/question_list");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (System.nanoTime() < deadline) {
+            long waiting;
+
+            synchronized (threads) {
+                waiting = threads.stream()
+                        .filter(thread -> thread.getState() == Thread.State.WAITING)
+                        .count();
+            }
+
+            if (waiting >= CONCURRENT_REQUESTS) return;
+
+            Thread.sleep(10);
+        }
+
+        throw new AssertionError("재발급을 기다리는 요청이 모이지 않았습니다.");
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.ll.sbbdoc20250109.global.security;
+
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 토큰 서명 검증은 인증 정보가 필요할 때만 하고, 재발급(응답 헤더 / 쿠키)은 필터에서 바로 하는지 확인한다.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DeferredAuthenticationTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoSpyBean
+    private UserService userService;
+
+    @Test
+    void anonymousPermitAllRequestDoesNotTouchTokens() throws Exception {
+        mvc.perform(get("/api/v1/question_list"))
+                .andExpect(status().isOk());
+
+        verify(userService, never()).getUserFromAccessToken(anyString());
+        verify(userService, never()).findCachedByApiKey(anyString());
+    }
+
+    @Test
+    void permitAllRequestWithValidTokenDoesNotVerifyIt() throws Exception {
+        mvc.perform(get("/api/v1/question_list").header(HttpHeaders.AUTHORIZATION, authorization("user1")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE));
+
+        verify(userService, never()).getUserFromAccessToken(anyString());
+    }
+
+    @Test
+    void expiredTokenIsRefreshedInFilterEvenIfActorIsNotUsed() throws Exception {
+        mvc.perform(get("/api/v1/question_list").header(HttpHeaders.AUTHORIZATION, "Bearer user1 invalid"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.AUTHORIZATION))
+                .andExpect(header().exists(HttpHeaders.SET_COOKIE));
+
+        verify(userService, never()).getUserFromAccessToken(anyString());
+    }
+
+    @Test
+    void hasAuthorityRuleVerifiesDeferredToken() throws Exception {
+        mvc.perform(get("/api/v1/question_list/statistics").header(HttpHeaders.AUTHORIZATION, authorization("admin")))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/v1/question_list/statistics").header(HttpHeaders.AUTHORIZATION, authorization("user1")))
+                .andExpect(status().isForbidden());
+
+        verify(userService, times(2)).getUserFromAccessToken(anyString());
+    }
+
+    @Test
+    void tokenWithBadSignatureIsAnonymous() throws Exception {
+        String accessToken = userService.genAccessToken(userService.findByUsername("admin").get());
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        mvc.perform(get("/api/v1/question_list/statistics").header(HttpHeaders.AUTHORIZATION, "Bearer admin " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String authorization(String username) {
+        SiteUser user = userService.findByUsername(username).get();
+
+        return "Bearer " + user.getApiKey() + " " + userService.genAccessToken(user);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.ll.sbbdoc20250109.global.webMvc;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Accept-Encoding 의 q 값을 보고 gzip 압축본을 보낼지 정하는지, 요청 본문으로는 읽지 않는지 확인한다.
+class PreSerializedJsonHttpMessageConverterTest {
+
+    @Test
+    void acceptsGzip() {
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("br, *")).isTrue();
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("x-gzip")).isTrue();
+    }
+
+    @Test
+    void rejectsGzip() {
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip(null)).isFalse();
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("identity")).isFalse();
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("gzip; q=0.000, deflate")).isFalse();
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("*;q=1, gzip;q=0")).isFalse();
+        assertThat(PreSerializedJsonHttpMessageConverter.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    void isWriteOnly() {
+        PreSerializedJsonHttpMessageConverter converter = new PreSerializedJsonHttpMessageConverter();
+
+        assertThat(converter.canRead(PreSerializedJson.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(PreSerializedJson.class, MediaType.APPLICATION_JSON)).isTrue();
+
+        assertThatThrownBy(() -> converter.read(PreSerializedJson.class, new MockHttpInputMessage(new byte[0])))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.ll.sbbdoc20250109.loadtest;
+
+import com.ll.sbbdoc20250109.global.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+// 고정 도착률(open model) 부하 생성기
+// 요청마다 가상 스레드를 하나씩 쓰므로 응답이 늦어도 다음 요청의 발송이 밀리지 않는다.
+// 지연 시간은 실제 발송 시각이 아닌 예정 발송 시각부터 측정해 coordinated omission 을 보정한다.
+public class LoadGenerator {
+
+    public enum RequestType {
+        list, search, detail, answerCreate, login
+    }
+
+    public static class EndpointStats {
+        // 예정 발송 시각 기준 (보정된 값)
+        private final LatencyHistogram latency = new LatencyHistogram();
+        // 실제 발송 시각 기준 (보정하지 않은 값, 비교용)
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final LongAdder errorCount = new LongAdder();
+
+        private void record(boolean success, long latencyNanos, long serviceTimeNanos) {
+            latency.record(latencyNanos / 1000);
+            serviceTime.record(serviceTimeNanos / 1000);
+
+            if (!success) errorCount.increment();
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final Map<RequestType, Integer> mix;
+    private final BiFunction<RequestType, Random, HttpRequest> requestFactory;
+    private final int mixTotal;
+    private final Random random;
+
+    public LoadGenerator(
+            HttpClient httpClient,
+            Map<RequestType, Integer> mix,
+            BiFunction<RequestType, Random, HttpRequest> requestFactory,
+            long seed
+    ) {
+        this.httpClient = httpClient;
+        this.mix = mix;
+        this.mixTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.requestFactory = requestFactory;
+        this.random = new Random(seed);
+    }
+
+    public Map<RequestType, EndpointStats> run(double ratePerSecond, Duration duration) {
+        Map<RequestType, EndpointStats> stats = new EnumMap<>(RequestType.class);
+        for (RequestType type : RequestType.values()) stats.put(type, new EndpointStats());
+
+        long intervalNanos = (long) (1_000_000_000 / ratePerSecond);
+        long startedAt = System.nanoTime();
+        long endAt = startedAt + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedStart = startedAt + i * intervalNanos;
+
+                if (intendedStart >= endAt) break;
+
+                long waitNanos = intendedStart - System.nanoTime();
+                if (waitNanos > 0) LockSupport.parkNanos(waitNanos);
+
+                RequestType type = pickType();
+                HttpRequest request = requestFactory.apply(type, random);
+                EndpointStats endpointStats = stats.get(type);
+
+                clients.execute(() -> send(request, intendedStart, endpointStats));
+            }
+        }
+
+        return stats;
+    }
+
+    public static String report(Map<RequestType, EndpointStats> stats, Duration duration) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("%-13s %8s %7s %9s | %9s %9s %9s | %9s %9s %9s%n".formatted(
+                "endpoint", "count", "errors", "req/s",
+                "p50(ms)", "p99(ms)", "p999(ms)",
+                "svc p50", "svc p99", "svc p999"
+        ));
+
+        stats.forEach((type, endpointStats) -> {
+            LatencyHistogram.Snapshot latency = endpointStats.latency.snapshot();
+            LatencyHistogram.Snapshot serviceTime = endpointStats.serviceTime.snapshot();
+
+            sb.append("%-13s %8d %7d %9.1f | %9.2f %9.2f %9.2f | %9.2f %9.2f %9.2f%n".formatted(
+                    type,
+                    latency.count(),
+                    endpointStats.errorCount.sum(),
+                    latency.count() / (duration.toMillis() / 1000.0),
+                    latency.percentileMicros(0.5) / 1000.0,
+                    latency.percentileMicros(0.99) / 1000.0,
+                    latency.percentileMicros(0.999) / 1000.0,
+                    serviceTime.percentileMicros(0.5) / 1000.0,
+                    serviceTime.percentileMicros(0.99) / 1000.0,
+                    serviceTime.percentileMicros(0.999) / 1000.0
+            ));
+        });
+
+        return sb.toString();
+    }
+
+    private void send(HttpRequest request, long intendedStart, EndpointStats endpointStats) {
+        long actualStart = System.nanoTime();
+        boolean success;
+
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            success = false;
+        }
+
+        long finishedAt = System.nanoTime();
+
+        endpointStats.record(success, finishedAt - intendedStart, finishedAt - actualStart);
+    }
+
+    private RequestType pickType() {
+        int value = random.nextInt(mixTotal);
+
+        for (Map.Entry<RequestType, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+
+            if (value < 0) return entry.getKey();
+        }
+
+        throw new IllegalStateException("요청 비율이 올바르지 않습니다.");
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.ll.sbbdoc20250109.loadtest;
+
+import com.ll.sbbdoc20250109.domain.question.QuestionService;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import com.ll.sbbdoc20250109.loadtest.LoadGenerator.RequestType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+// ./gradlew loadTest -Dloadtest.users=1000 -Dloadtest.questions=10000 -Dloadtest.answers=30000 \
+//     -Dloadtest.rate=200 -Dloadtest.durationSeconds=30 -Dloadtest.mix=list=40,search=20,detail=25,answerCreate=10,login=5
+// 가상 스레드 실행 방식과 비교하려면 -Dloadtest.profiles=virtual 을 추가한다.
+// 인메모리 H2(test 프로필)로 서버를 띄우고 합성 데이터를 만든 뒤 고정 도착률로 요청을 보낸다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadTestProfilesResolver.class)
+@Tag("loadtest")
+class LoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 1_000);
+    private static final int QUESTIONS = Integer.getInteger("loadtest.questions", 10_000);
+    private static final int ANSWERS = Integer.getInteger("loadtest.answers", 30_000);
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final String MIX = System.getProperty("loadtest.mix", "list=40,search=20,detail=25,answerCreate=10,login=5");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${custom.concurrency.enabled}")
+    private boolean concurrencyLimit;
+
+    @Value("${custom.concurrency.maxConcurrentRequests}")
+    private int maxConcurrentRequests;
+
+    @Test
+    void run() {
+        long generateStartedAt = System.currentTimeMillis();
+
+        SyntheticDataGenerator.Dataset dataset = new SyntheticDataGenerator(userService, questionService, transactionTemplate)
+                .generate(USERS, QUESTIONS, ANSWERS, SEED);
+
+        System.out.printf(
+                "데이터 생성 : 회원 %d명, 글 %d개, 댓글 %d개 (%dms)%n",
+                USERS, QUESTIONS, ANSWERS, System.currentTimeMillis() - generateStartedAt
+        );
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        LoadGenerator loadGenerator = new LoadGenerator(httpClient, parseMix(MIX), (type, random) -> request(type, random, dataset), SEED);
+
+        loadGenerator.run(RATE, Duration.ofSeconds(WARMUP_SECONDS));
+
+        Duration duration = Duration.ofSeconds(DURATION_SECONDS);
+        Map<RequestType, LoadGenerator.EndpointStats> stats = loadGenerator.run(RATE, duration);
+
+        // 두 실행 결과를 나란히 기록할 수 있도록 실행 조건을 함께 출력한다.
+        System.out.printf(
+                "실행 방식 : %s 스레드, 동시 요청 한도 %s%n",
+                virtualThreads ? "가상" : "플랫폼",
+                concurrencyLimit ? maxConcurrentRequests : "없음"
+        );
+        System.out.printf("도착률 %.0f req/s, %d초%n", RATE, DURATION_SECONDS);
+        System.out.print(LoadGenerator.report(stats, duration));
+    }
+
+    private HttpRequest request(RequestType type, Random random, SyntheticDataGenerator.Dataset dataset) {
+        String baseUrl = "http://localhost:" + port + "/api/v1";
+
+        return switch (type) {
+            case list -> HttpRequest.newBuilder(URI.create(baseUrl + "/question_list?page=" + (random.nextInt(5) + 1)))
+                    .GET()
+                    .build();
+            case search -> HttpRequest.newBuilder(URI.create(baseUrl + "/question_list?searchKeywordType=subject&searchKeyword="
+                            + encode(SyntheticDataGenerator.SEARCH_KEYWORDS.get(random.nextInt(SyntheticDataGenerator.SEARCH_KEYWORDS.size())))))
+                    .GET()
+                    .build();
+            case detail -> HttpRequest.newBuilder(URI.create(baseUrl + "/question_list/" + pickQuestionId(dataset, random)))
+                    .GET()
+                    .build();
+            case answerCreate -> {
+                SyntheticDataGenerator.LoadUser user = dataset.users().get(random.nextInt(dataset.users().size()));
+
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/question_list/" + pickQuestionId(dataset, random) + "/answer_list"))
+                        .header("Content-Type", "application/json")
+                        .header("Authorization", "Bearer " + user.apiKey() + " " + user.accessToken())
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"content\": \"부하 테스트 댓글\"}"))
+                        .build();
+            }
+            case login -> {
+                SyntheticDataGenerator.LoadUser user = dataset.users().get(random.nextInt(dataset.users().size()));
+
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/user/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"username\": \"%s\", \"password\": \"%s\"}".formatted(user.username(), user.password())
+                        ))
+                        .build();
+            }
+        };
+    }
+
+    private static long pickQuestionId(SyntheticDataGenerator.Dataset dataset, Random random) {
+        return dataset.questionIds().get(random.nextInt(dataset.questionIds().size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Map<RequestType, Integer> parseMix(String mix) {
+        Map<RequestType, Integer> weights = new EnumMap<>(RequestType.class);
+
+        Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(entry -> entry.split("=", 2))
+                .forEach(bits -> weights.put(RequestType.valueOf(bits[0].trim()), Integer.parseInt(bits[1].trim())));
+
+        return weights;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.ll.sbbdoc20250109.loadtest;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// -Dloadtest.profiles=virtual 처럼 실행 프로필을 추가해 두 실행 방식을 같은 조건으로 비교한다.
+public class LoadTestProfilesResolver implements ActiveProfilesResolver {
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+        List<String> profiles = new ArrayList<>(List.of("test", "loadtest"));
+
+        Arrays.stream(System.getProperty("loadtest.profiles", "").split(","))
+                .map(String::trim)
+                .filter(profile -> !profile.isEmpty())
+                .forEach(profiles::add);
+
+        return profiles.toArray(String[]::new);
+    }
+
+}
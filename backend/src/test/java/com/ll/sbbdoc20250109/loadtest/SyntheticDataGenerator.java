@@ -0,0 +1,115 @@
+package com.ll.sbbdoc20250109.loadtest;
+
+import com.ll.sbbdoc20250109.domain.question.Question;
+import com.ll.sbbdoc20250109.domain.question.QuestionService;
+import com.ll.sbbdoc20250109.domain.user.SiteUser;
+import com.ll.sbbdoc20250109.domain.user.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 서비스를 통해 회원 N명, 글 M개, 댓글 K개를 만든다.
+// 같은 seed 로 실행하면 같은 데이터가 만들어진다.
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    public static final List<String> SEARCH_KEYWORDS = List.of(
+            "축구", "배구", "농구", "야구", "발야구", "피구", "테니스", "탁구", "배드민턴", "볼링", "등산", "수영"
+    );
+
+    private static final List<String> WORDS = List.of(
+            "하실", "분", "구합니다", "주말", "평일", "저녁", "새벽", "오늘", "내일", "같이", "초보", "환영"
+    );
+
+    private static final int CHUNK_SIZE = 500;
+
+    public record LoadUser(String username, String password, String apiKey, String accessToken) {}
+
+    public record Dataset(List<LoadUser> users, List<Long> questionIds) {}
+
+    private final UserService userService;
+    private final QuestionService questionService;
+    private final TransactionTemplate transactionTemplate;
+
+    public Dataset generate(int userCount, int questionCount, int answerCount, long seed) {
+        Random random = new Random(seed);
+
+        List<SiteUser> users = createUsers(userCount);
+
+        List<LoadUser> loadUsers = users.stream()
+                .map(user -> new LoadUser(user.getUsername(), "1234", user.getApiKey(), userService.genAccessToken(user)))
+                .toList();
+
+        // 댓글을 글마다 무작위로 나눈다.
+        int[] answerCounts = new int[questionCount];
+        for (int i = 0; i < answerCount; i++) answerCounts[random.nextInt(questionCount)]++;
+
+        List<Long> questionIds = new ArrayList<>(questionCount);
+
+        for (int from = 0; from < questionCount; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, questionCount);
+            int chunkFrom = from;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = chunkFrom; i < to; i++) {
+                    List<QuestionService.AnswerDraft> answers = new ArrayList<>(answerCounts[i]);
+
+                    for (int j = 0; j < answerCounts[i]; j++) {
+                        answers.add(new QuestionService.AnswerDraft(pick(users, random), sentence(random, 3)));
+                    }
+
+                    Question question = questionService.write(
+                            pick(users, random),
+                            sentence(random, 4),
+                            sentence(random, 12),
+                            true,
+                            random.nextInt(10) != 0,
+                            answers
+                    );
+
+                    questionIds.add(question.getId());
+                }
+            });
+        }
+
+        return new Dataset(loadUsers, questionIds);
+    }
+
+    private List<SiteUser> createUsers(int userCount) {
+        List<SiteUser> users = new ArrayList<>(userCount);
+
+        for (int from = 0; from < userCount; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, userCount);
+            int chunkFrom = from;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = chunkFrom; i < to; i++) {
+                    SiteUser user = userService.join("load" + i, "1234", "부하" + i, "load" + i + "@load.com");
+                    user.setApiKey("load-" + i);
+
+                    users.add(user);
+                }
+            });
+        }
+
+        return users;
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder sb = new StringBuilder(pick(SEARCH_KEYWORDS, random));
+
+        for (int i = 1; i < wordCount; i++) {
+            sb.append(' ').append(pick(random.nextInt(3) == 0 ? SEARCH_KEYWORDS : WORDS, random));
+        }
+
+        return sb.toString();
+    }
+
+    private static <T> T pick(List<T> list, Random random) {
+        return list.get(random.nextInt(list.size()));
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.ll.sbbdoc20250109.standard.page;
+
+import com.ll.sbbdoc20250109.global.exceptions.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// id 1 ~ 7 을 limit 3 으로 앞(after) / 뒤(before) 방향으로 넘기며 커서와 항목을 확인한다.
+class CursorPageDtoTest {
+
+    private static final List<Long> IDS = LongStream.rangeClosed(1, 7).boxed().toList();
+
+    @Test
+    void forward() {
+        CursorPageDto<Long> first = fetch(null, null, 3);
+
+        assertThat(first.getItems()).containsExactly(7L, 6L, 5L);
+        assertThat(first.getPrevCursor()).isNull();
+        assertThat(first.getNextCursor()).isEqualTo(CursorPageDto.encodeCursor(5));
+
+        CursorPageDto<Long> middle = fetch(first.getNextCursor(), null, 3);
+
+        assertThat(middle.getItems()).containsExactly(4L, 3L, 2L);
+        assertThat(middle.getPrevCursor()).isEqualTo(CursorPageDto.encodeCursor(4));
+        assertThat(middle.getNextCursor()).isEqualTo(CursorPageDto.encodeCursor(2));
+
+        CursorPageDto<Long> last = fetch(middle.getNextCursor(), null, 3);
+
+        assertThat(last.getItems()).containsExactly(1L);
+        assertThat(last.getPrevCursor()).isEqualTo(CursorPageDto.encodeCursor(1));
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void backward() {
+        // 마지막 페이지([1])의 prevCursor 에서 거꾸로 넘긴다.
+        CursorPageDto<Long> middle = fetch(null, CursorPageDto.encodeCursor(1), 3);
+
+        assertThat(middle.getItems()).containsExactly(4L, 3L, 2L);
+        assertThat(middle.getPrevCursor()).isEqualTo(CursorPageDto.encodeCursor(4));
+        assertThat(middle.getNextCursor()).isEqualTo(CursorPageDto.encodeCursor(2));
+
+        CursorPageDto<Long> first = fetch(null, middle.getPrevCursor(), 3);
+
+        assertThat(first.getItems()).containsExactly(7L, 6L, 5L);
+        assertThat(first.getPrevCursor()).isNull();
+        assertThat(first.getNextCursor()).isEqualTo(CursorPageDto.encodeCursor(5));
+    }
+
+    @Test
+    void emptyPageHasNoCursors() {
+        CursorPageDto<Long> page = fetch(CursorPageDto.encodeCursor(1), null, 3);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getPrevCursor()).isNull();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void afterWinsOverBefore() {
+        CursorPageDto<Long> page = fetch(CursorPageDto.encodeCursor(5), CursorPageDto.encodeCursor(1), 3);
+
+        assertThat(page.getItems()).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    void limitIsAtLeastOne() {
+        CursorPageDto<Long> page = fetch(null, null, 0);
+
+        assertThat(page.getLimit()).isEqualTo(1);
+        assertThat(page.getItems()).containsExactly(7L);
+    }
+
+    @Test
+    void cursorRoundTrip() {
+        assertThat(CursorPageDto.decodeCursor(CursorPageDto.encodeCursor(123456789L))).isEqualTo(123456789L);
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        // base64url 이 아닌 문자열, 숫자가 아닌 내용
+        for (String cursor : List.of("!!!", "YWJj")) {
+            assertThatThrownBy(() -> CursorPageDto.decodeCursor(cursor))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting(e -> ((ServiceException) e).getResultCode())
+                    .isEqualTo("400-2");
+        }
+    }
+
+    private static CursorPageDto<Long> fetch(String after, String before, int limit) {
+        return CursorPageDto.fetch(
+                after,
+                before,
+                limit,
+                id -> id,
+                p -> IDS.stream().sorted(Comparator.reverseOrder()).limit(size(p)).toList(),
+                (id, p) -> IDS.stream().filter(it -> it < id).sorted(Comparator.reverseOrder()).limit(size(p)).toList(),
+                (id, p) -> IDS.stream().filter(it -> it > id).sorted().limit(size(p)).toList()
+        );
+    }
+
+    private static long size(Pageable pageable) {
+        return pageable.getPageSize();
+    }
+
+}